@@ -0,0 +1,232 @@
+package com.example.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.junit.QuarkusIntegrationTest;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Drives a mixed workload of reads, creates and deletes against the packaged application and the
+ * Dev Services PostgreSQL. Run with {@code ./gradlew integrationLoadTest}, the results are printed
+ * to stdout.
+ *
+ * <p>
+ * Requests are started at a fixed arrival rate (open model), independent of the response times.
+ * The latency of a request is measured from its scheduled start, so a stalled server shows up in
+ * the percentiles instead of lowering the request rate (coordinated omission). The scenario is
+ * configured with the system properties {@code load-test.rates} (requests per second),
+ * {@code load-test.duration}, {@code load-test.warmup} and {@code load-test.mix} (percentages of
+ * GET, create and delete), e.g. {@code -Pload-test.rates=200,1000}. Nothing but Docker is
+ * needed, so the test also runs with {@code --offline}, once the dependencies and the
+ * {@code postgres:16} image are available locally.
+ * </p>
+ */
+@QuarkusIntegrationTest
+@Tag("load")
+class AppointmentMixedLoadIT {
+    private static final int APPOINTMENTS = 1000;
+
+    private static final String APPOINTMENT = """
+        {"date": "2024-10-%02dT09:00:00Z", "location": "Room %d", "title": "Load test"}
+        """;
+
+    private static final long MAX_LATENCY = TimeUnit.MINUTES.toMicros(1);
+
+    @TestHTTPResource("/appointment")
+    URI appointmentUri;
+
+    private final List<Integer> rates = Arrays.stream(
+        System.getProperty("load-test.rates", "100,250,500,1000").split(","))
+        .map(String::trim).map(Integer::valueOf).toList();
+
+    private final Duration duration = Duration.parse(System.getProperty("load-test.duration", "PT30S"));
+
+    private final Duration warmup = Duration.parse(System.getProperty("load-test.warmup", "PT10S"));
+
+    private final int[] mix = Arrays.stream(System.getProperty("load-test.mix", "80,15,5").split(","))
+        .map(String::trim).mapToInt(Integer::parseInt).toArray();
+
+    /**
+     * Appointments, that are read. They are never deleted, so every read finds its appointment.
+     */
+    private final List<URI> readable = new ArrayList<>(APPOINTMENTS);
+
+    /**
+     * Appointments created during the run, that are deleted by later requests.
+     */
+    private final ConcurrentLinkedQueue<URI> deletable = new ConcurrentLinkedQueue<>();
+
+    @Test
+    void mixedWorkload() throws Exception {
+        assertThat(mix).hasSize(3);
+        assertThat(mix[0] + mix[1] + mix[2]).isEqualTo(100);
+
+        try (var requests = Executors.newVirtualThreadPerTaskExecutor();
+            var client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build()) {
+            for (int i = 0; i < APPOINTMENTS; i++) {
+                var response = client.send(create(i), HttpResponse.BodyHandlers.discarding());
+                assertThat(response.statusCode()).isEqualTo(201);
+                readable.add(location(response));
+            }
+
+            run(client, requests, rates.getFirst(), warmup);
+            for (var rate : rates) {
+                var result = run(client, requests, rate, duration);
+
+                result.print(rate, duration);
+                assertThat(result.total().getTotalCount()).isPositive();
+            }
+        }
+    }
+
+    /**
+     * Starts {@code rate} requests per second for the given duration and waits for all of them to
+     * complete.
+     */
+    private Result run(HttpClient client, ExecutorService requests, int rate, Duration duration) {
+        var result = new Result();
+        var interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        var count = duration.toNanos() / interval;
+        var started = System.nanoTime();
+        var pending = new ArrayList<Future<?>>((int) count);
+
+        for (long i = 0; i < count; i++) {
+            var scheduled = started + i * interval;
+            var wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            var operation = nextOperation();
+            pending.add(requests.submit(() -> send(client, operation, scheduled, result)));
+        }
+        for (var request : pending) {
+            try {
+                request.get();
+            } catch (Exception e) {
+                result.errors.increment();
+            }
+        }
+        result.elapsed = System.nanoTime() - started;
+        return result;
+    }
+
+    private void send(HttpClient client, Operation scheduledOperation, long scheduled, Result result) {
+        var index = ThreadLocalRandom.current().nextInt(APPOINTMENTS);
+        // Reads instead, if no created appointment is left to delete
+        var deleted = scheduledOperation == Operation.DELETE ? deletable.poll() : null;
+        var operation = scheduledOperation == Operation.DELETE && deleted == null
+            ? Operation.GET
+            : scheduledOperation;
+        var request = switch (operation) {
+            case GET -> HttpRequest.newBuilder(readable.get(index)).GET().build();
+            case CREATE -> create(index);
+            case DELETE -> HttpRequest.newBuilder(deleted).DELETE().build();
+        };
+        try {
+            var response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            result.record(operation, (System.nanoTime() - scheduled) / 1000);
+            if (response.statusCode() >= 400) {
+                result.errors.increment();
+            } else if (operation == Operation.CREATE) {
+                deletable.add(location(response));
+            }
+        } catch (Exception e) {
+            result.errors.increment();
+        }
+    }
+
+    private Operation nextOperation() {
+        var percent = ThreadLocalRandom.current().nextInt(100);
+        if (percent < mix[0]) {
+            return Operation.GET;
+        }
+        return percent < mix[0] + mix[1] ? Operation.CREATE : Operation.DELETE;
+    }
+
+    private HttpRequest create(int index) {
+        return HttpRequest.newBuilder(appointmentUri)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(APPOINTMENT.formatted(index % 28 + 1, index)))
+            .build();
+    }
+
+    private URI location(HttpResponse<?> response) {
+        return appointmentUri.resolve(response.headers().firstValue("Location").orElseThrow());
+    }
+
+    private enum Operation {
+        GET, CREATE, DELETE
+    }
+
+    /**
+     * Latencies in microseconds per operation, recorded concurrently.
+     */
+    private static final class Result {
+        private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+
+        private final LongAdder errors = new LongAdder();
+
+        private long elapsed;
+
+        Result() {
+            for (var operation : Operation.values()) {
+                latencies.put(operation, new ConcurrentHistogram(MAX_LATENCY, 3));
+            }
+        }
+
+        void record(Operation operation, long latency) {
+            latencies.get(operation).recordValue(Math.min(latency, MAX_LATENCY));
+        }
+
+        Histogram total() {
+            var total = new Histogram(MAX_LATENCY, 3);
+            latencies.values().forEach(total::add);
+            return total;
+        }
+
+        void print(int rate, Duration duration) {
+            var total = total();
+            System.out.printf("rate=%d/s duration=%s requests=%d throughput=%.0f/s errors=%d%n", rate,
+                duration, total.getTotalCount(), total.getTotalCount() * 1e9 / elapsed, errors.sum());
+            print("all", total);
+            latencies.forEach((operation, histogram) -> print(operation.name(), histogram));
+        }
+
+        private static void print(String name, Histogram histogram) {
+            if (histogram.getTotalCount() == 0) {
+                return;
+            }
+            System.out.printf("  %-6s count=%d p50=%.2fms p90=%.2fms p99=%.2fms p99.9=%.2fms max=%.2fms%n",
+                name, histogram.getTotalCount(), millis(histogram, 50), millis(histogram, 90),
+                millis(histogram, 99), millis(histogram, 99.9), histogram.getMaxValue() / 1000.0);
+        }
+
+        private static double millis(Histogram histogram, double percentile) {
+            return histogram.getValueAtPercentile(percentile) / 1000.0;
+        }
+    }
+}
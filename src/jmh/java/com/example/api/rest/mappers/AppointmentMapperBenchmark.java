@@ -0,0 +1,72 @@
+package com.example.api.rest.mappers;
+
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+import com.example.api.rest.dtos.AppointmentDTO;
+import com.example.core.models.Appointment;
+import com.example.core.primitives.ids.IdGenerator;
+import com.example.infrastructure.database.entities.AppointmentEntity;
+import com.example.infrastructure.database.mappers.AppointmentEntityMapper;
+import com.example.infrastructure.database.mappers.AppointmentEntityMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the generated MapStruct mappers between {@link AppointmentDTO}, {@link Appointment} and
+ * {@link AppointmentEntity}, i.e. the mapping cost of a request through all layers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AppointmentMapperBenchmark {
+    private final AppointmentDtoMapper dtoMapper = new AppointmentDtoMapperImpl();
+
+    private final AppointmentEntityMapper entityMapper = new AppointmentEntityMapperImpl();
+
+    private Appointment appointment;
+
+    private AppointmentDTO dto;
+
+    private AppointmentEntity entity;
+
+    @Setup
+    public void setup() {
+        appointment = new Appointment(IdGenerator.next(), ZonedDateTime.now(), "Room 1", "Workshop",
+            "Quarkus workshop", "Tobias", ZonedDateTime.now());
+        dto = dtoMapper.toAppointmentDTO(appointment);
+        entity = entityMapper.toAppointmentEntity(appointment);
+    }
+
+    @Benchmark
+    public AppointmentDTO appointmentToDto() {
+        return dtoMapper.toAppointmentDTO(appointment);
+    }
+
+    @Benchmark
+    public Appointment dtoToAppointment() {
+        return dtoMapper.toAppointment(dto);
+    }
+
+    @Benchmark
+    public AppointmentEntity appointmentToEntity() {
+        return entityMapper.toAppointmentEntity(appointment);
+    }
+
+    @Benchmark
+    public Appointment entityToAppointment() {
+        return entityMapper.toAppointment(entity);
+    }
+
+    /**
+     * Read path of {@code GET /appointment/{id}}: entity to domain model to DTO.
+     */
+    @Benchmark
+    public AppointmentDTO entityToDto() {
+        return dtoMapper.toAppointmentDTO(entityMapper.toAppointment(entity));
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.api.rest.serialization;
+
+import java.io.IOException;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import com.example.api.rest.dtos.AppointmentDTO;
+import com.example.api.rest.dtos.AppointmentPageDTO;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares serialization time and payload size of a page of appointments as JSON (with ISO-8601
+ * dates, like the Quarkus object mapper), CBOR and Smile (with epoch dates, see
+ * {@link BinaryObjectWriters}). The payload size of every format is printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"1", "1000"})
+    public int appointments;
+
+    private ObjectWriter writer;
+
+    private ObjectReader reader;
+
+    private AppointmentPageDTO page;
+
+    private byte[] payload;
+
+    @Setup
+    public void setup() throws IOException {
+        var items = new ArrayList<AppointmentDTO>(appointments);
+        var date = ZonedDateTime.parse("2024-10-14T09:00:00Z");
+        for (int i = 0; i < appointments; i++) {
+            items.add(new AppointmentDTO(date.plusMinutes(15L * i), "Room " + i % 20,
+                "Workshop " + i, i % 2 == 0 ? "Quarkus workshop" : null));
+        }
+        page = new AppointmentPageDTO(items, "MjAyNC0xMC0xNFQwOTowMDowMFo");
+
+        var mapper = switch (format) {
+            case "json" -> JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+            case "cbor" -> new BinaryObjectWriters().mapperFor(MediaTypes.APPLICATION_CBOR_TYPE);
+            case "smile" -> new BinaryObjectWriters().mapperFor(MediaTypes.APPLICATION_SMILE_TYPE);
+            default -> throw new IllegalArgumentException(format);
+        };
+        writer = mapper.writerFor(AppointmentPageDTO.class);
+        reader = mapper.readerFor(AppointmentPageDTO.class);
+        payload = writer.writeValueAsBytes(page);
+        System.out.printf("%nformat=%s appointments=%d payload=%d bytes%n", format, appointments,
+            payload.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public AppointmentPageDTO deserialize() throws IOException {
+        return reader.readValue(payload);
+    }
+}
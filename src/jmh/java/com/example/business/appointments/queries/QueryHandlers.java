@@ -0,0 +1,17 @@
+package com.example.business.appointments.queries;
+
+import com.example.business.appointments.ReactiveAppointmentRepository;
+
+/**
+ * Creates query handlers outside of CDI for benchmarks.
+ */
+public final class QueryHandlers {
+    private QueryHandlers() {
+    }
+
+    public static GetAppointmentQueryHandler getAppointment(ReactiveAppointmentRepository repository) {
+        var handler = new GetAppointmentQueryHandler();
+        handler.appointmentRepository = repository;
+        return handler;
+    }
+}
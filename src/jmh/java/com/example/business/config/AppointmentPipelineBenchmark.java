@@ -0,0 +1,125 @@
+package com.example.business.config;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import an.awesome.pipelinr.Pipeline;
+import com.example.business.appointments.ReactiveAppointmentRepository;
+import com.example.business.appointments.queries.GetAppointmentQuery;
+import com.example.business.appointments.queries.QueryHandlers;
+import com.example.business.middlewares.MetricsMiddleware;
+import com.example.core.models.Appointment;
+import com.example.core.primitives.ids.IdGenerator;
+import com.example.core.primitives.pagination.Page;
+import com.example.core.primitives.pagination.PageCursor;
+import com.example.core.primitives.results.Result;
+import com.example.core.primitives.versions.Version;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures {@code send} of a {@link GetAppointmentQuery} through the pipeline, as it is produced by
+ * {@link PipelineConfiguration}: the {@link PrecompiledPipeline} with the real query handler and the
+ * {@link MetricsMiddleware}. The repository returns a cached appointment, so only the dispatch and
+ * the subscription of the returned {@code Uni} are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AppointmentPipelineBenchmark {
+    private Pipeline pipeline;
+
+    private Pipeline pipelineWithMetrics;
+
+    private GetAppointmentQuery query;
+
+    @Setup
+    public void setup() {
+        var appointment = new Appointment(IdGenerator.next(), ZonedDateTime.now(), "Room 1",
+            "Workshop", "Quarkus workshop", "Tobias", ZonedDateTime.now());
+        var handler = QueryHandlers.getAppointment(new InMemoryRepository(appointment));
+        pipeline = new PrecompiledPipeline(List.of(handler), List.of());
+        pipelineWithMetrics = new PrecompiledPipeline(List.of(handler),
+            List.of(new MetricsMiddleware(new SimpleMeterRegistry())));
+        query = new GetAppointmentQuery(appointment.id());
+    }
+
+    @Benchmark
+    public Result<Appointment> getAppointment() {
+        return pipeline.send(query).await().indefinitely();
+    }
+
+    @Benchmark
+    public Result<Appointment> getAppointmentWithMetrics() {
+        return pipelineWithMetrics.send(query).await().indefinitely();
+    }
+
+    /**
+     * Returns a single appointment, other operations are not used.
+     */
+    static final class InMemoryRepository implements ReactiveAppointmentRepository {
+        private final Uni<Result<Appointment>> appointment;
+
+        InMemoryRepository(Appointment appointment) {
+            this.appointment = Uni.createFrom().item(Result.ok(appointment));
+        }
+
+        @Override
+        public Uni<Result<Appointment>> getAppointment(UUID id) {
+            return appointment;
+        }
+
+        @Override
+        public Uni<Result<Version>> getAppointmentVersion(UUID id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Uni<Result<Appointment>> createAppointment(Appointment appointment) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Uni<Result<List<Appointment>>> createAppointments(List<Appointment> appointments) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Uni<Result<List<Appointment>>> getAppointments(Collection<UUID> ids) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Uni<Result<Set<UUID>>> deleteAppointments(Collection<UUID> ids) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Uni<Result<Page<Appointment>>> getAppointmentsByCreation(PageCursor after, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Uni<Result<Page<Appointment>>> getAppointmentsByDate(Instant from, Instant to,
+            PageCursor after, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Uni<Result<Version>> getAppointmentsVersionByDate(Instant from, Instant to,
+            PageCursor after, int limit) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.business.config;
+
+import an.awesome.pipelinr.Command;
+import an.awesome.pipelinr.Pipeline;
+import an.awesome.pipelinr.Pipelinr;
+import com.example.business.middlewares.MetricsMiddleware;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the per-request {@link Pipelinr} assembly (as it was done by the former
+ * {@code @RequestScoped} producer) with the application-scoped {@link PrecompiledPipeline}, and
+ * measures the overhead of the {@link MetricsMiddleware}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PipelineBenchmark {
+    private List<Command.Handler<?, ?>> handlers;
+
+    private List<Command.Middleware> middlewares;
+
+    private Pipeline precompiled;
+
+    private Pipeline precompiledWithMetrics;
+
+    private final Ping ping = new Ping("ping");
+
+    @Setup
+    public void setup() {
+        handlers = List.of(new PingHandler(), new PongHandler(), new EchoHandler());
+        middlewares = List.of(new PassThrough(), new PassThrough());
+        precompiled = new PrecompiledPipeline(handlers, middlewares);
+        precompiledWithMetrics = new PrecompiledPipeline(handlers,
+            List.of(new MetricsMiddleware(new SimpleMeterRegistry())));
+    }
+
+    @Benchmark
+    @SuppressWarnings("rawtypes")
+    public String perRequestPipelinr() {
+        var commandHandlers = handlers.stream().map(r -> (Command.Handler) r).toList();
+        Pipeline pipeline = new Pipelinr()
+            .with(() -> commandHandlers.stream())
+            .with(() -> middlewares.stream());
+        return pipeline.send(ping);
+    }
+
+    @Benchmark
+    public String precompiledPipeline() {
+        return precompiled.send(ping);
+    }
+
+    @Benchmark
+    public String precompiledPipelineWithMetrics() {
+        return precompiledWithMetrics.send(ping);
+    }
+
+    record Ping(String value) implements Command<String> {
+    }
+
+    record Pong(String value) implements Command<String> {
+    }
+
+    record Echo(String value) implements Command<String> {
+    }
+
+    static class PingHandler implements Command.Handler<Ping, String> {
+        @Override
+        public String handle(Ping command) {
+            return command.value();
+        }
+    }
+
+    static class PongHandler implements Command.Handler<Pong, String> {
+        @Override
+        public String handle(Pong command) {
+            return command.value();
+        }
+    }
+
+    static class EchoHandler implements Command.Handler<Echo, String> {
+        @Override
+        public String handle(Echo command) {
+            return command.value();
+        }
+    }
+
+    static class PassThrough implements Command.Middleware {
+        @Override
+        public <R, C extends Command<R>> R invoke(C command, Next<R> next) {
+            return next.invoke();
+        }
+    }
+}
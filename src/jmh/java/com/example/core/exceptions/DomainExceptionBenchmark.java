@@ -0,0 +1,43 @@
+package com.example.core.exceptions;
+
+import java.util.concurrent.TimeUnit;
+import com.example.core.exceptions.base.DomainException;
+import com.example.core.primitives.results.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the construction of {@link DomainException}s: stackless expected failures, that are
+ * returned as {@code Result.fail(...)} on regular paths, compared with unexpected errors, that fill
+ * in their stack trace.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DomainExceptionBenchmark {
+    private final RuntimeException cause = new IllegalStateException("cause");
+
+    @Benchmark
+    public DomainException stackless() {
+        return new NotFoundException(ErrorCode.DOM_NOT_FOUND, "Appointment was not found.");
+    }
+
+    @Benchmark
+    public DomainException withStackTrace() {
+        return new NotFoundException(ErrorCode.DOM_NOT_FOUND, "Appointment was not found.", true);
+    }
+
+    @Benchmark
+    public DomainException withCause() {
+        return new InfrastructureException(ErrorCode.INF_DB_UNKNOWN, "Unknown database error.", cause);
+    }
+
+    @Benchmark
+    public Result<Object> failedResult() {
+        return Result.fail(new NotFoundException(ErrorCode.DOM_NOT_FOUND, "Appointment was not found."));
+    }
+}
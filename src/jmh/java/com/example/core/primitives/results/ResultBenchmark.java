@@ -0,0 +1,89 @@
+package com.example.core.primitives.results;
+
+import com.example.core.exceptions.ErrorCode;
+import com.example.core.exceptions.ResultEmptyException;
+import com.example.core.exceptions.base.DomainException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares allocations of the former {@code Optional} based results with {@link Result}. The
+ * results are returned from the benchmark methods, so that they escape. Run with {@code -prof gc}
+ * and compare {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResultBenchmark {
+    private final String payload = "payload";
+
+    private final DomainException error =
+        new ResultEmptyException(ErrorCode.DOM_NOT_FOUND, "Object was not found.");
+
+    @Benchmark
+    public Object optionalOk() {
+        return new OptionalResult<>(payload, null, true);
+    }
+
+    @Benchmark
+    public Object sealedOk() {
+        return Result.ok(payload);
+    }
+
+    @Benchmark
+    public Object optionalFail() {
+        return new OptionalResult<>(null, error, false);
+    }
+
+    @Benchmark
+    public Object sealedFail() {
+        return Result.fail(error);
+    }
+
+    @Benchmark
+    public Object optionalActionOk() {
+        return new OptionalResult<>(null, null, true);
+    }
+
+    @Benchmark
+    public Object sealedActionOk() {
+        return ActionResult.ok();
+    }
+
+    @Benchmark
+    public Object sealedChain() {
+        return Result.ok(payload)
+            .map(String::length)
+            .flatMap(length -> Result.ok(length + 1));
+    }
+
+    @Benchmark
+    public Object sealedFailChain() {
+        return Result.<String>fail(error)
+            .map(String::length)
+            .flatMap(length -> Result.ok(length + 1));
+    }
+
+    /**
+     * Layout of the former result type: an {@code Optional} for payload and error each.
+     */
+    static final class OptionalResult<T> {
+        private final Optional<DomainException> error;
+
+        private final boolean success;
+
+        private final Optional<T> payload;
+
+        OptionalResult(T payload, DomainException error, boolean success) {
+            this.success = success;
+            this.error = error == null ? Optional.empty() : Optional.of(error);
+            this.payload = Optional.ofNullable(payload);
+        }
+    }
+}
@@ -1,16 +1,434 @@
 package com.example.api.rest.controller;
 
+import java.net.URI;
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import an.awesome.pipelinr.Pipeline;
+import com.example.api.rest.dtos.AppointmentChangeDTO;
+import com.example.api.rest.dtos.AppointmentDTO;
+import com.example.api.rest.dtos.AppointmentPageDTO;
+import com.example.api.rest.dtos.BatchEntryDTO;
+import com.example.api.rest.dtos.LocationDTO;
+import com.example.api.rest.exceptions.ErrorResponseMapper;
+import com.example.api.rest.mappers.AppointmentChangeDtoMapper;
+import com.example.api.rest.mappers.AppointmentCsvMapper;
+import com.example.api.rest.mappers.AppointmentDtoMapper;
+import com.example.api.rest.mappers.LocationDtoMapper;
+import com.example.api.rest.mappers.PageCursorMapper;
+import com.example.api.rest.mappers.VersionMapper;
+import com.example.api.rest.serialization.MediaTypes;
+import com.example.business.appointments.commands.CreateAppointmentCommand;
+import com.example.business.appointments.commands.CreateAppointmentsCommand;
+import com.example.business.appointments.commands.DeleteAppointmentsCommand;
+import com.example.business.appointments.queries.GetAppointmentChangesQuery;
+import com.example.business.appointments.queries.GetAppointmentLocationQuery;
+import com.example.business.appointments.queries.GetAppointmentQuery;
+import com.example.business.appointments.queries.ExportAppointmentsQuery;
+import com.example.business.appointments.queries.GetAppointmentVersionQuery;
+import com.example.business.appointments.queries.GetAppointmentsInRangeQuery;
+import com.example.business.appointments.queries.GetAppointmentsInRangeVersionQuery;
+import com.example.business.appointments.queries.GetAppointmentsQuery;
+import com.example.core.models.Appointment;
+import com.example.core.primitives.pagination.Page;
+import com.example.core.primitives.pagination.PageCursor;
+import com.example.core.primitives.versions.Version;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
+import org.jboss.resteasy.reactive.RestResponse;
+import org.jboss.resteasy.reactive.RestStreamElementType;
+import org.jboss.resteasy.reactive.common.util.RestMediaType;
 
+/**
+ * REST endpoints of the appointments. All endpoints return {@link Uni} or {@link Multi}, so they
+ * run on the Vert.x event loop. Whether blocking database calls are moved to worker threads or the
+ * reactive database client is used, is decided by the {@code ReactiveAppointmentRepository}.
+ *
+ * <p>
+ * Single appointments and ranges are returned with {@code ETag} and {@code Last-Modified}, derived
+ * from the creation time of the appointments. Conditional requests ({@code If-None-Match},
+ * {@code If-Modified-Since}) first read only the version, and get {@code 304 Not Modified} without
+ * reading or serializing the appointments, if it did not change.
+ * </p>
+ *
+ * <p>
+ * The read endpoints produce JSON, CBOR ({@code application/cbor}) and Smile
+ * ({@code application/x-jackson-smile}), selected by the {@code Accept} header. Each
+ * representation has its own {@code ETag}, the responses vary by {@code Accept}.
+ * </p>
+ */
 @Path("/appointment")
 @Consumes(MediaType.APPLICATION_JSON)
 @Produces(MediaType.APPLICATION_JSON)
 public class AppointmentResource {
+    /**
+     * Maximum number of ids of a single batch request.
+     */
+    static final int MAX_BATCH_SIZE = 1000;
+
+    /**
+     * Maximum number of appointments of a single bulk create request.
+     */
+    static final int MAX_BULK_SIZE = 10_000;
+
+    @Inject
+    Pipeline pipeline;
+
+    @Inject
+    AppointmentDtoMapper appointmentDtoMapper;
+
+    @Inject
+    AppointmentCsvMapper appointmentCsvMapper;
+
+    @Inject
+    AppointmentChangeDtoMapper appointmentChangeDtoMapper;
+
+    @Inject
+    LocationDtoMapper locationDtoMapper;
+
+    @Inject
+    PageCursorMapper pageCursorMapper;
+
+    @Inject
+    VersionMapper versionMapper;
+
+    @Inject
+    ErrorResponseMapper errorResponseMapper;
+
+    /**
+     * Gets a single appointment.
+     *
+     * @param id the id of the appointment
+     * @return the appointment with its {@code ETag} and {@code Last-Modified}, or
+     *         {@code 304 Not Modified} if the conditional request headers match
+     */
+    @GET
+    @Path("/{id}")
+    @Produces({MediaType.APPLICATION_JSON, MediaTypes.APPLICATION_CBOR,
+        MediaTypes.APPLICATION_SMILE})
+    public Uni<RestResponse<AppointmentDTO>> getAppointment(
+        @PathParam("id") UUID id,
+        @Context Request request,
+        @Context HttpHeaders headers) {
+        var mediaType = MediaTypes.select(headers.getAcceptableMediaTypes());
+        if (!isConditional(headers)) {
+            return getAppointment(id, mediaType);
+        }
+        return pipeline.send(new GetAppointmentVersionQuery(id))
+            .flatMap(result -> {
+                var version = result.orElseThrow();
+                return isModified(request, headers, version, mediaType)
+                    ? getAppointment(id, mediaType)
+                    : Uni.createFrom().item(notModified(version, mediaType));
+            });
+    }
+
+    private Uni<RestResponse<AppointmentDTO>> getAppointment(UUID id, MediaType mediaType) {
+        return pipeline.send(new GetAppointmentQuery(id))
+            .map(result -> {
+                var appointment = result.orElseThrow();
+                var response = RestResponse.ResponseBuilder
+                    .ok(appointmentDtoMapper.toAppointmentDTO(appointment), mediaType)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                if (appointment.createdAt() != null) {
+                    var version = Version.of(appointment.createdAt().toInstant());
+                    response.tag(versionMapper.toEntityTag(version, mediaType))
+                        .lastModified(versionMapper.toLastModified(version));
+                }
+                return response.build();
+            });
+    }
+
+    /**
+     * Gets the location of an appointment from the location service.
+     *
+     * @param id the id of the appointment
+     * @return the location, or {@code 503 Service Unavailable} if the location service is slow or
+     *         unavailable
+     */
     @GET
+    @Path("/{id}/location")
+    public Uni<LocationDTO> getAppointmentLocation(
+        @PathParam("id") UUID id) {
+        return pipeline.send(new GetAppointmentLocationQuery(id))
+            .map(result -> locationDtoMapper.toLocationDTO(result.orElseThrow()));
+    }
+
+    /**
+     * Creates a new appointment. Its id is generated by the application and only returned as the
+     * {@code Location} of the new appointment.
+     *
+     * @param appointmentDTO the appointment
+     * @return the created appointment
+     */
+    @POST
+    public Uni<RestResponse<AppointmentDTO>> createAppointment(
+        @Valid @NotNull AppointmentDTO appointmentDTO) {
+        return pipeline.send(new CreateAppointmentCommand(
+            appointmentDtoMapper.toAppointment(appointmentDTO)))
+            .map(result -> {
+                var appointment = result.orElseThrow();
+                return RestResponse.ResponseBuilder
+                    .<AppointmentDTO>created(URI.create("/appointment/" + appointment.id()))
+                    .entity(appointmentDtoMapper.toAppointmentDTO(appointment))
+                    .build();
+            });
+    }
+
+    /**
+     * Creates multiple appointments, e.g. for imports. The appointments are stored in chunks, with
+     * batched inserts.
+     *
+     * @param appointmentDTOs the appointments
+     * @return one entry per appointment, in the order of {@code appointmentDTOs}. Created
+     *         appointments contain their location, failed appointments are returned as error
+     *         entries.
+     */
+    @POST
+    @Path("/bulk")
+    public Uni<List<BatchEntryDTO<String>>> createAppointments(
+        @NotEmpty @Size(max = MAX_BULK_SIZE) List<@NotNull AppointmentDTO> appointmentDTOs) {
+        var appointments = appointmentDTOs.stream().map(appointmentDtoMapper::toAppointment).toList();
+        return pipeline.send(new CreateAppointmentsCommand(appointments))
+            .map(results -> results.orElseThrow().stream()
+                .map(result -> result.fold(
+                    appointment -> BatchEntryDTO.ok("/appointment/" + appointment.id()),
+                    error -> BatchEntryDTO.<String>error(
+                        errorResponseMapper.toErrorResponse(error))))
+                .toList());
+    }
+
+    @DELETE
     @Path("/{id}")
-    public void getAppointment(
-        @PathParam("id") String id) {
-        //TODO: Implement
+    public Uni<Void> deleteAppointment(
+        @PathParam("id") UUID id) {
+        return pipeline.send(new DeleteAppointmentsCommand(List.of(id)))
+            .map(result -> {
+                var deleted = result.orElseThrow().getFirst();
+                if (!deleted.isSuccess()) {
+                    throw deleted.getError();
+                }
+                return null;
+            });
+    }
+
+    /**
+     * Gets the appointments, whose date is within the given range, ordered by date.
+     *
+     * @param from the inclusive start of the range, e.g. {@code 2024-10-14T00:00:00Z}
+     * @param to the exclusive end of the range
+     * @param limit the maximum number of appointments of the page
+     * @param after the cursor of the previous page
+     * @return the page of appointments, with the cursor of the next page. The {@code ETag} and
+     *         {@code Last-Modified} are those of the page, so a page changes with any appointment
+     *         created or deleted within it. Only conditional requests query the version, unchanged
+     *         pages are answered without reading them.
+     */
+    @GET
+    @Produces({MediaType.APPLICATION_JSON, MediaTypes.APPLICATION_CBOR,
+        MediaTypes.APPLICATION_SMILE})
+    public Uni<RestResponse<AppointmentPageDTO>> getAppointmentsInRange(
+        @QueryParam("from") @NotNull OffsetDateTime from,
+        @QueryParam("to") @NotNull OffsetDateTime to,
+        @QueryParam("limit") @DefaultValue("100") @Min(1) @Max(MAX_BATCH_SIZE) int limit,
+        @QueryParam("after") String after,
+        @Context Request request,
+        @Context HttpHeaders headers) {
+        var cursor = pageCursorMapper.toPageCursor(after);
+        var mediaType = MediaTypes.select(headers.getAcceptableMediaTypes());
+        if (!isConditional(headers)) {
+            return getAppointmentsInRange(from, to, limit, cursor, mediaType);
+        }
+        return pipeline.send(new GetAppointmentsInRangeVersionQuery(from.toInstant(),
+            to.toInstant(), limit, cursor))
+            .flatMap(result -> {
+                var version = result.orElseThrow();
+                return isModified(request, headers, version, mediaType)
+                    ? getAppointmentsInRange(from, to, limit, cursor, mediaType)
+                    : Uni.createFrom().item(notModified(version, mediaType));
+            });
+    }
+
+    private Uni<RestResponse<AppointmentPageDTO>> getAppointmentsInRange(OffsetDateTime from,
+        OffsetDateTime to, int limit, PageCursor cursor, MediaType mediaType) {
+        return pipeline.send(new GetAppointmentsInRangeQuery(from.toInstant(), to.toInstant(),
+            limit, cursor))
+            .map(result -> {
+                var page = result.orElseThrow();
+                var version = toVersion(page);
+                return RestResponse.ResponseBuilder.ok(new AppointmentPageDTO(
+                    page.items().stream()
+                        .map(appointmentDtoMapper::toAppointmentDTO)
+                        .toList(),
+                    pageCursorMapper.toCursorString(page.next())), mediaType)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                    .tag(versionMapper.toEntityTag(version, mediaType))
+                    .lastModified(versionMapper.toLastModified(version))
+                    .build();
+            });
+    }
+
+    /**
+     * Derives the version of a page from its appointments, like
+     * {@link GetAppointmentsInRangeVersionQuery} does within the database.
+     */
+    private static Version toVersion(Page<Appointment> page) {
+        if (page.items().isEmpty()) {
+            return Version.EMPTY;
+        }
+        var lastModified = page.items().stream()
+            .map(appointment -> appointment.createdAt().toInstant())
+            .max(Comparator.naturalOrder())
+            .orElseThrow();
+        return new Version(lastModified, page.items().size(), page.items().getLast().id());
+    }
+
+    /**
+     * Gets multiple appointments with a single query.
+     *
+     * @param ids the ids of the appointments
+     * @return one entry per id, in the order of {@code ids}. Missing appointments are returned as
+     *         error entries.
+     */
+    @POST
+    @Path("/batch-get")
+    @Produces({MediaType.APPLICATION_JSON, MediaTypes.APPLICATION_CBOR,
+        MediaTypes.APPLICATION_SMILE})
+    public Uni<List<BatchEntryDTO<AppointmentDTO>>> getAppointments(
+        @NotEmpty @Size(max = MAX_BATCH_SIZE) List<@NotNull UUID> ids) {
+        return pipeline.send(new GetAppointmentsQuery(ids))
+            .map(results -> results.orElseThrow().stream()
+                .map(result -> result.fold(
+                    appointment -> BatchEntryDTO.ok(
+                        appointmentDtoMapper.toAppointmentDTO(appointment)),
+                    error -> BatchEntryDTO.<AppointmentDTO>error(
+                        errorResponseMapper.toErrorResponse(error))))
+                .toList());
+    }
+
+    /**
+     * Deletes multiple appointments with a single statement.
+     *
+     * @param ids the ids of the appointments, e.g. {@code ?ids=<id>&ids=<id>}
+     * @return one entry per id, in the order of {@code ids}. Missing appointments are returned as
+     *         error entries.
+     */
+    @DELETE
+    public Uni<List<BatchEntryDTO<Void>>> deleteAppointments(
+        @QueryParam("ids") @NotEmpty @Size(max = MAX_BATCH_SIZE) List<@NotNull UUID> ids) {
+        return pipeline.send(new DeleteAppointmentsCommand(ids))
+            .map(results -> results.orElseThrow().stream()
+                .map(result -> result.fold(
+                    () -> BatchEntryDTO.<Void>ok(null),
+                    error -> BatchEntryDTO.<Void>error(
+                        errorResponseMapper.toErrorResponse(error))))
+                .toList());
+    }
+
+    /**
+     * Streams all appointments as newline delimited JSON. The appointments are read page by page,
+     * as fast as the client consumes them.
+     *
+     * @return the appointments, ordered by their creation time
+     */
+    @GET
+    @Path("/export")
+    @Produces(RestMediaType.APPLICATION_NDJSON)
+    @RestStreamElementType(MediaType.APPLICATION_JSON)
+    public Multi<AppointmentDTO> exportAppointments() {
+        return pipeline.send(new ExportAppointmentsQuery())
+            .map(appointmentDtoMapper::toAppointmentDTO);
+    }
+
+    /**
+     * Streams all appointments as CSV, see {@link #exportAppointments()}.
+     *
+     * @return the CSV lines, starting with the header
+     */
+    @GET
+    @Path("/export")
+    @Produces("text/csv")
+    public Multi<String> exportAppointmentsAsCsv() {
+        var lines = pipeline.send(new ExportAppointmentsQuery())
+            .map(appointment -> appointmentCsvMapper.toCsvLine(
+                appointmentDtoMapper.toAppointmentDTO(appointment)));
+        return Multi.createBy().concatenating()
+            .streams(Multi.createFrom().item(AppointmentCsvMapper.HEADER), lines);
+    }
+
+    /**
+     * Streams the changes of all appointments as server-sent events. The name of an event is the
+     * type of the change ({@code created}, {@code updated}, {@code deleted} or {@code reset}), the
+     * data references the changed appointment. After a {@code reset}, changes may have been missed
+     * and the client has to reload the appointments.
+     *
+     * <p>
+     * The stream completes, if the client falls too far behind. A client resumes with the id of
+     * its last event, which browsers send as {@code Last-Event-ID} when they reconnect.
+     * </p>
+     *
+     * @param lastEventId the id of the last event, that the client received, or {@code null}
+     * @param lastEventIdParam alternative to {@code Last-Event-ID}, for clients that cannot set
+     *        headers
+     * @return the events after {@code lastEventId}, followed by the live events
+     */
+    @GET
+    @Path("/changes")
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    public Multi<OutboundSseEvent> getAppointmentChanges(
+        @HeaderParam("Last-Event-ID") Long lastEventId,
+        @QueryParam("lastEventId") Long lastEventIdParam,
+        @Context Sse sse) {
+        var resumeAfter = lastEventId != null ? lastEventId : lastEventIdParam;
+        return pipeline.send(new GetAppointmentChangesQuery(resumeAfter))
+            .map(change -> sse.newEventBuilder()
+                .id(Long.toString(change.id()))
+                .name(change.type().name().toLowerCase(Locale.ROOT))
+                .mediaType(MediaType.APPLICATION_JSON_TYPE)
+                .data(AppointmentChangeDTO.class,
+                    appointmentChangeDtoMapper.toAppointmentChangeDTO(change))
+                .build());
+    }
+
+    private static boolean isConditional(HttpHeaders headers) {
+        return headers.getHeaderString(HttpHeaders.IF_NONE_MATCH) != null
+            || headers.getHeaderString(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    /**
+     * Evaluates the conditional request headers. {@code If-Modified-Since} is ignored, if
+     * {@code If-None-Match} is present (RFC 9110, section 13.1.3), since the date does not change,
+     * when an appointment of a range is deleted.
+     */
+    private boolean isModified(Request request, HttpHeaders headers, Version version,
+        MediaType mediaType) {
+        var notModified = headers.getHeaderString(HttpHeaders.IF_NONE_MATCH) != null
+            ? request.evaluatePreconditions(versionMapper.toEntityTag(version, mediaType))
+            : request.evaluatePreconditions(versionMapper.toLastModified(version));
+        return notModified == null;
+    }
+
+    private <T> RestResponse<T> notModified(Version version, MediaType mediaType) {
+        return RestResponse.ResponseBuilder
+            .<T>notModified(versionMapper.toEntityTag(version, mediaType))
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+            .lastModified(versionMapper.toLastModified(version))
+            .build();
     }
 }
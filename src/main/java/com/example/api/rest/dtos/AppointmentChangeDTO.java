@@ -0,0 +1,17 @@
+package com.example.api.rest.dtos;
+
+import java.time.ZonedDateTime;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * API model of a change of an appointment, the data of an event of
+ * {@code GET /appointment/changes}. The type and id of the change are the name and id of the event.
+ *
+ * @param uri the URI of the changed appointment, {@code null} for a reset
+ * @param date the date and time of the changed appointment, {@code null} for a reset
+ */
+@RegisterForReflection
+public record AppointmentChangeDTO(
+    String uri,
+    ZonedDateTime date) {
+}
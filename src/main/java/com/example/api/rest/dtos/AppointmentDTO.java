@@ -0,0 +1,21 @@
+package com.example.api.rest.dtos;
+
+import java.time.ZonedDateTime;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * API model of an appointment. Must neither contain the id nor the name of the creator.
+ *
+ * @param date the date and time of the appointment
+ * @param location the location of the appointment
+ * @param title the title of the appointment
+ * @param description the description of the appointment
+ */
+@RegisterForReflection
+public record AppointmentDTO(
+    @NotNull ZonedDateTime date,
+    String location,
+    String title,
+    String description) {
+}
@@ -0,0 +1,15 @@
+package com.example.api.rest.dtos;
+
+import java.util.List;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * A page of appointments.
+ *
+ * @param items the appointments of this page
+ * @param next the opaque cursor to request the next page with ({@code after}), or {@code null} if
+ *        this is the last page
+ */
+@RegisterForReflection
+public record AppointmentPageDTO(List<AppointmentDTO> items, String next) {
+}
@@ -0,0 +1,24 @@
+package com.example.api.rest.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * Single entry of a batch response. Failed entries contain the error, successful entries contain
+ * the result, if the operation has one.
+ *
+ * @param <T> the type of the result
+ * @param result the result of the successful operation
+ * @param error the error of the failed operation
+ */
+@RegisterForReflection
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchEntryDTO<T>(T result, ErrorResponseDTO error) {
+    public static <T> BatchEntryDTO<T> ok(T result) {
+        return new BatchEntryDTO<>(result, null);
+    }
+
+    public static <T> BatchEntryDTO<T> error(ErrorResponseDTO error) {
+        return new BatchEntryDTO<>(null, error);
+    }
+}
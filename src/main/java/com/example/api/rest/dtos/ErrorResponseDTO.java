@@ -0,0 +1,24 @@
+package com.example.api.rest.dtos;
+
+import java.time.Instant;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * HTTP error response, that is returned for every {@code DomainException}.
+ *
+ * @param statusCode the HTTP status code
+ * @param status the HTTP status reason phrase
+ * @param errorCode the public error number of the {@code ErrorCode}
+ * @param errorId the id of the specific error event
+ * @param date the date of the specific error event
+ * @param message the error message. Contains the detailed message only outside of production.
+ */
+@RegisterForReflection
+public record ErrorResponseDTO(
+    int statusCode,
+    String status,
+    int errorCode,
+    String errorId,
+    Instant date,
+    String message) {
+}
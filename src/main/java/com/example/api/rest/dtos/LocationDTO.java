@@ -0,0 +1,19 @@
+package com.example.api.rest.dtos;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * API model of the location of an appointment.
+ *
+ * @param name the name of the location
+ * @param building the building of the location
+ * @param floor the floor of the location within the building
+ * @param capacity the maximum number of persons
+ */
+@RegisterForReflection
+public record LocationDTO(
+    String name,
+    String building,
+    Integer floor,
+    Integer capacity) {
+}
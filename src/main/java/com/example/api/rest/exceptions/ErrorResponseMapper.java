@@ -0,0 +1,97 @@
+package com.example.api.rest.exceptions;
+
+import com.example.api.rest.dtos.ErrorResponseDTO;
+import com.example.core.exceptions.ErrorCode;
+import com.example.core.exceptions.base.DomainException;
+import com.example.core.exceptions.base.ResponseMappable;
+import io.quarkus.runtime.Startup;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.Status;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Maps {@link DomainException}s to {@link ErrorResponseDTO}s, using the status of their
+ * {@link ResponseMappable} annotation.
+ *
+ * <p>
+ * The status of an exception type is resolved at build time, see {@link ResponseMappings}. HTTP
+ * responses are rendered from a {@link ErrorResponseTemplate} per status and error code. The
+ * templates of all statuses, that an exception can be mapped to, are built when the application
+ * starts, so the first error of each kind is not slower than the following ones.
+ * </p>
+ */
+@Startup
+@ApplicationScoped
+public class ErrorResponseMapper {
+    private static final int CODES = ErrorCode.values().length;
+
+    private final boolean isProduction;
+
+    private final ErrorResponseTemplate[] templates;
+
+    @Inject
+    public ErrorResponseMapper(@ConfigProperty(name = "isProduction") boolean isProduction) {
+        this.isProduction = isProduction;
+        this.templates = new ErrorResponseTemplate[Status.values().length * CODES];
+        for (var status : ResponseMappings.statuses()) {
+            for (var errorCode : ErrorCode.values()) {
+                templates[index(status, errorCode)] =
+                    new ErrorResponseTemplate(status, errorCode, !isProduction);
+            }
+        }
+    }
+
+    /**
+     * Gets the HTTP status of the given exception.
+     *
+     * @param exception the exception.
+     * @return the status of its {@link ResponseMappable} annotation.
+     */
+    public Status toStatus(DomainException exception) {
+        return ResponseMappings.statusOf(exception.getClass());
+    }
+
+    /**
+     * Maps the given exception to an error response. The detailed message is only returned outside
+     * of production.
+     *
+     * @param exception the exception.
+     * @return the error response.
+     */
+    public ErrorResponseDTO toErrorResponse(DomainException exception) {
+        var status = toStatus(exception);
+        return new ErrorResponseDTO(
+            status.getStatusCode(),
+            status.getReasonPhrase(),
+            exception.getErrorCode().getErrorNumber(),
+            exception.getErrorId(),
+            exception.getErrorDate(),
+            isProduction ? exception.getErrorCode().getDescription() : exception.getMessage());
+    }
+
+    /**
+     * Maps the given exception to an HTTP response. The body is the serialized
+     * {@link ErrorResponseDTO} of {@link #toErrorResponse(DomainException)}.
+     *
+     * @param exception the exception.
+     * @return the HTTP response containing the error response.
+     */
+    public Response toResponse(DomainException exception) {
+        var status = toStatus(exception);
+        return Response.status(status)
+            .type(MediaType.APPLICATION_JSON_TYPE)
+            .entity(template(status, exception.getErrorCode()).render(exception))
+            .build();
+    }
+
+    private ErrorResponseTemplate template(Status status, ErrorCode errorCode) {
+        return templates[index(status, errorCode)];
+    }
+
+    private static int index(Status status, ErrorCode errorCode) {
+        return status.ordinal() * CODES + errorCode.ordinal();
+    }
+}
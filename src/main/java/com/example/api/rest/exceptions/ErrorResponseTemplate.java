@@ -0,0 +1,97 @@
+package com.example.api.rest.exceptions;
+
+import java.nio.charset.StandardCharsets;
+import com.example.api.rest.dtos.ErrorResponseDTO;
+import com.example.core.exceptions.ErrorCode;
+import com.example.core.exceptions.base.DomainException;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import jakarta.ws.rs.core.Response.Status;
+
+/**
+ * Serialized {@link ErrorResponseDTO} of a single HTTP status and {@link ErrorCode}. Only the
+ * fields of the specific error event (id, date and, outside of production, the message) are
+ * written per response. Everything else is encoded once.
+ */
+final class ErrorResponseTemplate {
+    private final byte[] prefix;
+
+    private final byte[] infix;
+
+    private final byte[] suffix;
+
+    private final boolean withMessage;
+
+    /**
+     * Creates the template.
+     *
+     * @param status the HTTP status
+     * @param errorCode the error code
+     * @param withMessage {@code true} to write the message of each exception, {@code false} to
+     *        write the description of the error code
+     */
+    ErrorResponseTemplate(Status status, ErrorCode errorCode, boolean withMessage) {
+        this.withMessage = withMessage;
+        this.prefix = ("{\"statusCode\":" + status.getStatusCode()
+            + ",\"status\":\"" + quote(status.getReasonPhrase())
+            + "\",\"errorCode\":" + errorCode.getErrorNumber()
+            + ",\"errorId\":\"").getBytes(StandardCharsets.UTF_8);
+        this.infix = "\",\"date\":\"".getBytes(StandardCharsets.UTF_8);
+        this.suffix = (withMessage
+            ? "\",\"message\":\""
+            : "\",\"message\":\"" + quote(errorCode.getDescription()) + "\"}")
+            .getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes the error response of the given exception.
+     *
+     * @param exception the exception
+     * @return the UTF-8 encoded JSON
+     */
+    byte[] render(DomainException exception) {
+        var errorId = exception.getErrorId();
+        var date = exception.getErrorDate().toString();
+        var message = withMessage ? messageOf(exception) : null;
+
+        var length = prefix.length + errorId.length() + infix.length + date.length()
+            + suffix.length + (message == null ? 0 : message.length + 2);
+        var json = new byte[length];
+        var position = copy(prefix, json, 0);
+        position = copyAscii(errorId, json, position);
+        position = copy(infix, json, position);
+        position = copyAscii(date, json, position);
+        position = copy(suffix, json, position);
+        if (message != null) {
+            position = copy(message, json, position);
+            json[position++] = '"';
+            json[position] = '}';
+        }
+        return json;
+    }
+
+    private static byte[] messageOf(DomainException exception) {
+        var message = exception.getMessage();
+        return message == null
+            ? new byte[0]
+            : JsonStringEncoder.getInstance().quoteAsUTF8(message);
+    }
+
+    private static String quote(String value) {
+        return new String(JsonStringEncoder.getInstance().quoteAsString(value));
+    }
+
+    private static int copy(byte[] source, byte[] target, int position) {
+        System.arraycopy(source, 0, target, position, source.length);
+        return position + source.length;
+    }
+
+    /**
+     * Copies a string, that only contains ASCII characters (error ids and ISO-8601 dates).
+     */
+    private static int copyAscii(String source, byte[] target, int position) {
+        for (int i = 0; i < source.length(); i++) {
+            target[position++] = (byte) source.charAt(i);
+        }
+        return position;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.api.rest.exceptions;
+
+import com.example.core.exceptions.base.DomainException;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import jakarta.ws.rs.ext.Provider;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Maps every {@link DomainException}, that is thrown by a resource, to an HTTP error response.
+ */
+@Slf4j
+@Provider
+public class ExceptionHttpResponseMapper implements ExceptionMapper<DomainException> {
+
+    @Inject
+    ErrorResponseMapper errorResponseMapper;
+
+    @Override
+    public Response toResponse(DomainException exception) {
+        var response = errorResponseMapper.toResponse(exception);
+        if (response.getStatus() >= 500) {
+            LOGGER.error("Request failed with error {} ({}).", exception.getErrorId(),
+                exception.getErrorCode(), exception);
+        } else {
+            LOGGER.debug("Request failed with error {} ({}): {}", exception.getErrorId(),
+                exception.getErrorCode(), exception.getMessage());
+        }
+        return response;
+    }
+}
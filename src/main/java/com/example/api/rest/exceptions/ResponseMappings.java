@@ -0,0 +1,84 @@
+package com.example.api.rest.exceptions;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import com.example.core.exceptions.base.DomainException;
+import com.example.core.exceptions.base.ResponseMappable;
+import jakarta.ws.rs.core.Response.Status;
+
+/**
+ * HTTP status of each {@link DomainException}, as declared by its {@link ResponseMappable}
+ * annotation.
+ *
+ * <p>
+ * The annotations are resolved at build time by the {@code indexResponseMappings} Gradle task,
+ * which fails the build if an exception is not annotated. This class only reads the generated
+ * table, so mapping an exception does not use reflection. Exception types, that are unknown at
+ * build time (e.g. subclasses in tests), get the status of their closest known superclass.
+ * </p>
+ */
+final class ResponseMappings {
+    static final String RESOURCE = "META-INF/response-mappings.properties";
+
+    private static final Map<String, Status> BY_CLASS_NAME = load();
+
+    private static final ClassValue<Status> STATUS = new ClassValue<>() {
+        @Override
+        protected Status computeValue(Class<?> type) {
+            for (var current = type; current != null; current = current.getSuperclass()) {
+                var status = BY_CLASS_NAME.get(current.getName());
+                if (status != null) {
+                    return status;
+                }
+            }
+            return Status.INTERNAL_SERVER_ERROR;
+        }
+    };
+
+    private ResponseMappings() {
+    }
+
+    /**
+     * Gets the HTTP status of the given exception type.
+     *
+     * @param type the exception type.
+     * @return the status of its {@link ResponseMappable} annotation.
+     */
+    static Status statusOf(Class<? extends DomainException> type) {
+        return STATUS.get(type);
+    }
+
+    /**
+     * Gets every status, that {@link #statusOf(Class)} can return.
+     *
+     * @return the statuses of all known exception types and the fallback status.
+     */
+    static Set<Status> statuses() {
+        var statuses = EnumSet.copyOf(BY_CLASS_NAME.values());
+        statuses.add(Status.INTERNAL_SERVER_ERROR);
+        return statuses;
+    }
+
+    private static Map<String, Status> load() {
+        try (var input = ResponseMappings.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+            if (input == null) {
+                throw new IllegalStateException(
+                    RESOURCE + " is missing. It is generated by the indexResponseMappings task.");
+            }
+            var properties = new Properties();
+            properties.load(input);
+
+            Map<String, Status> mappings = HashMap.newHashMap(properties.size());
+            properties.forEach((type, status) ->
+                mappings.put((String) type, Status.valueOf((String) status)));
+            return Map.copyOf(mappings);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
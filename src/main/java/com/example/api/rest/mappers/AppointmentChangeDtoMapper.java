@@ -0,0 +1,24 @@
+package com.example.api.rest.mappers;
+
+import java.util.UUID;
+import com.example.api.rest.dtos.AppointmentChangeDTO;
+import com.example.core.models.AppointmentChange;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.Named;
+
+/**
+ * Maps the domain model {@link AppointmentChange} to the API model {@link AppointmentChangeDTO}.
+ * The id of the appointment is only exposed as its URI.
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.JAKARTA_CDI)
+public interface AppointmentChangeDtoMapper {
+    @Mapping(target = "uri", source = "appointmentId", qualifiedByName = "toUri")
+    AppointmentChangeDTO toAppointmentChangeDTO(AppointmentChange change);
+
+    @Named("toUri")
+    default String toUri(UUID appointmentId) {
+        return appointmentId == null ? null : "/appointment/" + appointmentId;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.api.rest.mappers;
+
+import java.time.format.DateTimeFormatter;
+import com.example.api.rest.dtos.AppointmentDTO;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Maps {@link AppointmentDTO}s to CSV lines (RFC 4180).
+ */
+@ApplicationScoped
+public class AppointmentCsvMapper {
+    /**
+     * The header line, including the line break.
+     */
+    public static final String HEADER = "date,location,title,description\r\n";
+
+    /**
+     * Maps a single appointment to a CSV line, including the line break.
+     *
+     * @param appointment the appointment.
+     * @return the CSV line.
+     */
+    public String toCsvLine(AppointmentDTO appointment) {
+        var line = new StringBuilder(128);
+        if (appointment.date() != null) {
+            DateTimeFormatter.ISO_OFFSET_DATE_TIME.formatTo(appointment.date(), line);
+        }
+        appendField(line.append(','), appointment.location());
+        appendField(line.append(','), appointment.title());
+        appendField(line.append(','), appointment.description());
+        return line.append("\r\n").toString();
+    }
+
+    private static void appendField(StringBuilder line, String value) {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\r' || c == '\n';
+        }
+        if (!quote) {
+            line.append(value);
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        line.append('"');
+    }
+}
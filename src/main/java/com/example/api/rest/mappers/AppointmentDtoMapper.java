@@ -0,0 +1,23 @@
+package com.example.api.rest.mappers;
+
+import com.example.api.rest.dtos.AppointmentDTO;
+import com.example.core.models.Appointment;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+
+/**
+ * Maps between the domain model {@link Appointment} and the API model {@link AppointmentDTO}.
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.JAKARTA_CDI)
+public interface AppointmentDtoMapper {
+    AppointmentDTO toAppointmentDTO(Appointment appointment);
+
+    /**
+     * Maps a new appointment of a client. The id is generated by the application.
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "creatorName", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    Appointment toAppointment(AppointmentDTO appointmentDTO);
+}
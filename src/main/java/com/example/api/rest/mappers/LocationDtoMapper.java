@@ -0,0 +1,14 @@
+package com.example.api.rest.mappers;
+
+import com.example.api.rest.dtos.LocationDTO;
+import com.example.core.models.Location;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+
+/**
+ * Maps the domain model {@link Location} to the API model {@link LocationDTO}.
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.JAKARTA_CDI)
+public interface LocationDtoMapper {
+    LocationDTO toLocationDTO(Location location);
+}
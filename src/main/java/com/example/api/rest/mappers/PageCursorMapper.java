@@ -0,0 +1,55 @@
+package com.example.api.rest.mappers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+import com.example.core.exceptions.ErrorCode;
+import com.example.core.exceptions.InvalidArgumentException;
+import com.example.core.primitives.pagination.PageCursor;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Maps {@link PageCursor}s to and from opaque, URL safe strings.
+ */
+@ApplicationScoped
+public class PageCursorMapper {
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Encodes the given cursor.
+     *
+     * @param cursor the cursor, may be {@code null}.
+     * @return the encoded cursor, or {@code null} if there is no cursor.
+     */
+    public String toCursorString(PageCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        var value = cursor.position().toString() + SEPARATOR + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes the given cursor.
+     *
+     * @param cursor the encoded cursor, may be {@code null} or blank.
+     * @return the cursor, or {@code null} if there is no cursor.
+     * @throws InvalidArgumentException if the cursor is malformed.
+     */
+    public PageCursor toPageCursor(String cursor) throws InvalidArgumentException {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            var value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            var separator = value.indexOf(SEPARATOR);
+            return new PageCursor(Instant.parse(value.substring(0, separator)),
+                UUID.fromString(value.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidArgumentException(ErrorCode.API_INVALID_INPUT,
+                "The cursor '" + cursor + "' is malformed.");
+        }
+    }
+}
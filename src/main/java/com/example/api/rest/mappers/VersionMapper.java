@@ -0,0 +1,64 @@
+package com.example.api.rest.mappers;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import com.example.api.rest.serialization.MediaTypes;
+import com.example.core.primitives.versions.Version;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.MediaType;
+
+/**
+ * Maps {@link Version}s to the validators of conditional requests, {@code ETag} and
+ * {@code Last-Modified}.
+ */
+@ApplicationScoped
+public class VersionMapper {
+    /**
+     * Creates a strong entity tag from the creation time in microseconds, the precision of the
+     * database, the number of appointments and the id of the last appointment of a page.
+     *
+     * @param version the version
+     * @return the entity tag
+     */
+    public EntityTag toEntityTag(Version version) {
+        return new EntityTag(toTag(version));
+    }
+
+    /**
+     * Creates the strong entity tag of a representation. A strong tag identifies the bytes of a
+     * response, so the tags of the binary representations get the format as suffix. JSON keeps the
+     * tag of {@link #toEntityTag(Version)}.
+     *
+     * @param version the version
+     * @param mediaType the representation, see {@link MediaTypes#select(java.util.List)}
+     * @return the entity tag
+     */
+    public EntityTag toEntityTag(Version version, MediaType mediaType) {
+        if (mediaType.isCompatible(MediaTypes.APPLICATION_CBOR_TYPE)) {
+            return new EntityTag(toTag(version) + "-cbor");
+        }
+        if (mediaType.isCompatible(MediaTypes.APPLICATION_SMILE_TYPE)) {
+            return new EntityTag(toTag(version) + "-smile");
+        }
+        return toEntityTag(version);
+    }
+
+    /**
+     * Gets the {@code Last-Modified} date, truncated to seconds like the HTTP date format. Otherwise
+     * an {@code If-Modified-Since} date, that was sent back by a client, would be before it.
+     *
+     * @param version the version
+     * @return the last modification date
+     */
+    public Date toLastModified(Version version) {
+        return Date.from(version.lastModified().truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    private static String toTag(Version version) {
+        var micros = ChronoUnit.MICROS.between(Instant.EPOCH, version.lastModified());
+        var tag = Long.toHexString(micros) + '-' + Long.toHexString(version.count());
+        return version.last() == null ? tag : tag + '-' + version.last();
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.api.rest.serialization;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Writes response entities as CBOR or Smile, if the client accepts one of them and the endpoint
+ * produces it.
+ */
+@Provider
+@Produces({MediaTypes.APPLICATION_CBOR, MediaTypes.APPLICATION_SMILE})
+public class BinaryMessageBodyWriter implements MessageBodyWriter<Object> {
+
+    @Inject
+    BinaryObjectWriters binaryObjectWriters;
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations,
+        MediaType mediaType) {
+        return true;
+    }
+
+    @Override
+    public void writeTo(Object entity, Class<?> type, Type genericType, Annotation[] annotations,
+        MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+        throws IOException {
+        var valueType = genericType == null || genericType == Object.class ? type : genericType;
+        binaryObjectWriters.writerFor(mediaType, valueType).writeValue(entityStream, entity);
+    }
+}
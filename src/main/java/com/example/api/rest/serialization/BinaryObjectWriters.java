@@ -0,0 +1,86 @@
+package com.example.api.rest.serialization;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.cfg.MapperBuilder;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.inject.Singleton;
+import jakarta.ws.rs.core.MediaType;
+
+/**
+ * Object mappers of the binary representations (CBOR and Smile) and their writers.
+ *
+ * <p>
+ * Dates are written as epoch milliseconds (UTC), a single integer instead of an ISO-8601 string,
+ * and are read the same way. The writers are created once per DTO type and reused, so serializers
+ * are not looked up again for every response.
+ * </p>
+ */
+@Singleton
+public class BinaryObjectWriters {
+    private final ObjectMapper cborMapper = configure(CBORMapper.builder()).build();
+
+    private final ObjectMapper smileMapper = configure(SmileMapper.builder()).build();
+
+    private final Map<Type, ObjectWriter> cborWriters = new ConcurrentHashMap<>();
+
+    private final Map<Type, ObjectWriter> smileWriters = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the writer of a binary representation.
+     *
+     * @param mediaType CBOR or Smile, see {@link MediaTypes}.
+     * @param type the (generic) type of the written values.
+     * @return the writer, that is shared by all values of {@code type}.
+     * @throws IllegalArgumentException if {@code mediaType} is neither CBOR nor Smile.
+     */
+    public ObjectWriter writerFor(MediaType mediaType, Type type) {
+        var writers = isCbor(mediaType) ? cborWriters : smileWriters;
+        var writer = writers.get(type);
+        if (writer == null) {
+            var mapper = mapperFor(mediaType);
+            writer = writers.computeIfAbsent(type,
+                key -> mapper.writerFor(mapper.getTypeFactory().constructType(key)));
+        }
+        return writer;
+    }
+
+    /**
+     * Gets the object mapper of a binary representation, e.g. to read it.
+     *
+     * @param mediaType CBOR or Smile, see {@link MediaTypes}.
+     * @return the object mapper.
+     * @throws IllegalArgumentException if {@code mediaType} is neither CBOR nor Smile.
+     */
+    public ObjectMapper mapperFor(MediaType mediaType) {
+        if (isCbor(mediaType)) {
+            return cborMapper;
+        }
+        if (mediaType.isCompatible(MediaTypes.APPLICATION_SMILE_TYPE)) {
+            return smileMapper;
+        }
+        throw new IllegalArgumentException("Unsupported binary media type " + mediaType);
+    }
+
+    private static boolean isCbor(MediaType mediaType) {
+        return mediaType.isCompatible(MediaTypes.APPLICATION_CBOR_TYPE);
+    }
+
+    private static <B extends MapperBuilder<?, B>> B configure(B builder) {
+        return builder
+            .addModule(new JavaTimeModule())
+            .enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS)
+            .disable(DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS)
+            // The entity stream is closed by the server
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.api.rest.serialization;
+
+import java.util.List;
+import jakarta.ws.rs.core.MediaType;
+
+/**
+ * Media types of the appointment representations. Besides JSON, the read endpoints produce the
+ * binary formats CBOR and Smile, e.g. for service-to-service calls with many appointments.
+ */
+public final class MediaTypes {
+    public static final String APPLICATION_CBOR = "application/cbor";
+
+    public static final MediaType APPLICATION_CBOR_TYPE = MediaType.valueOf(APPLICATION_CBOR);
+
+    public static final String APPLICATION_SMILE = "application/x-jackson-smile";
+
+    public static final MediaType APPLICATION_SMILE_TYPE = MediaType.valueOf(APPLICATION_SMILE);
+
+    /**
+     * Representations of the read endpoints, in the order of preference.
+     */
+    private static final List<MediaType> REPRESENTATIONS = List.of(
+        MediaType.APPLICATION_JSON_TYPE, APPLICATION_CBOR_TYPE, APPLICATION_SMILE_TYPE);
+
+    private MediaTypes() {
+    }
+
+    /**
+     * Selects the representation of a response, like the content negotiation of the
+     * {@code @Produces} of the read endpoints.
+     *
+     * @param acceptableMediaTypes the media types of the {@code Accept} header, in the order of
+     *        preference ({@code HttpHeaders#getAcceptableMediaTypes()}).
+     * @return JSON, CBOR or Smile. JSON, if the client accepts none of them.
+     */
+    public static MediaType select(List<MediaType> acceptableMediaTypes) {
+        for (var acceptable : acceptableMediaTypes) {
+            for (var representation : REPRESENTATIONS) {
+                if (acceptable.isCompatible(representation)) {
+                    return representation;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON_TYPE;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.business.appointments;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import com.example.core.models.Appointment;
+import com.example.core.primitives.results.Result;
+
+/**
+ * Bounded cache of single appointments, used by {@link CachingAppointmentRepository}. Implemented
+ * by the infrastructure layer.
+ */
+public interface AppointmentCache {
+    /**
+     * Gets the cached appointment or loads it. Concurrent misses for the same id are collapsed into
+     * a single call of {@code loader}. Failed results are returned, but not cached.
+     *
+     * @param id the id of the appointment
+     * @param loader loads the appointment on a miss
+     * @return the cached or loaded appointment
+     */
+    Result<Appointment> get(UUID id, Function<UUID, Result<Appointment>> loader);
+
+    /**
+     * Gets the cached appointments and loads all missing ones with a single call of
+     * {@code loader}. Like {@link #get(UUID, Function)}, ids that are already being loaded are
+     * awaited instead of loaded again.
+     *
+     * @param ids the ids of the appointments
+     * @param loader loads the missing appointments, returns the ones that exist
+     * @return the appointments that exist, in no particular order, or the failure of
+     *         {@code loader}
+     */
+    Result<List<Appointment>> getAll(Collection<UUID> ids,
+        Function<Collection<UUID>, Result<List<Appointment>>> loader);
+
+    /**
+     * Gets the cached appointment without loading it. Pending loads are not awaited.
+     *
+     * @param id the id of the appointment
+     * @return the cached appointment, or an empty optional on a miss
+     */
+    Optional<Appointment> getIfPresent(UUID id);
+
+    /**
+     * Removes the given appointments from the cache.
+     *
+     * @param ids the ids of the appointments
+     */
+    void invalidate(Collection<UUID> ids);
+
+    /**
+     * Gets the statistics of this cache since startup.
+     *
+     * @return the statistics
+     */
+    Statistics getStatistics();
+
+    /**
+     * Cumulative statistics of an {@link AppointmentCache}.
+     *
+     * @param hits the number of lookups, that returned a cached appointment
+     * @param misses the number of lookups, that had to load the appointment
+     * @param evictions the number of appointments, that were evicted due to size or age
+     */
+    record Statistics(long hits, long misses, long evictions) {
+    }
+}
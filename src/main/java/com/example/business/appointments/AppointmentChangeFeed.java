@@ -0,0 +1,21 @@
+package com.example.business.appointments;
+
+import com.example.core.models.AppointmentChange;
+import io.smallrye.mutiny.Multi;
+
+/**
+ * Live feed of the changes of all appointments. Implemented by the infrastructure layer.
+ */
+public interface AppointmentChangeFeed {
+    /**
+     * Subscribes to the changes.
+     *
+     * @param lastEventId the id of the last change, that the subscriber received before it
+     *        reconnected, or {@code null} for a new subscriber
+     * @return the changes after {@code lastEventId} followed by the live changes. If the changes
+     *         after {@code lastEventId} are not known anymore, the stream starts with a
+     *         {@link AppointmentChange.Type#RESET}. The stream completes, if the subscriber falls
+     *         too far behind, it may then resume with the id of its last change.
+     */
+    Multi<AppointmentChange> getChanges(Long lastEventId);
+}
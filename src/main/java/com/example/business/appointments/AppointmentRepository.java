@@ -0,0 +1,107 @@
+package com.example.business.appointments;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import com.example.core.models.Appointment;
+import com.example.core.primitives.pagination.Page;
+import com.example.core.primitives.pagination.PageCursor;
+import com.example.core.primitives.results.Result;
+import com.example.core.primitives.versions.Version;
+
+/**
+ * Provides access to the stored appointments. Implemented by the infrastructure layer.
+ */
+public interface AppointmentRepository {
+    /**
+     * Stores a new appointment.
+     *
+     * @param appointment the appointment, with an id generated by {@code IdGenerator}
+     * @return the stored appointment
+     */
+    Result<Appointment> createAppointment(Appointment appointment);
+
+    /**
+     * Stores multiple new appointments in a single transaction. Either all or none of the
+     * appointments are stored.
+     *
+     * @param appointments the appointments, with ids generated by {@code IdGenerator}
+     * @return the stored appointments, or a failed result with the error code
+     *         {@code INF_DB_CONSTRAINT_VIOLATION} if the database rejected an appointment, e.g. a
+     *         too long title
+     */
+    Result<List<Appointment>> createAppointments(List<Appointment> appointments);
+
+    /**
+     * Gets a single appointment.
+     *
+     * @param id the id of the appointment
+     * @return the appointment, or a failed result with a {@code NotFoundException} if it does not
+     *         exist
+     */
+    Result<Appointment> getAppointment(UUID id);
+
+    /**
+     * Gets the version of a single appointment, without reading the appointment itself.
+     *
+     * @param id the id of the appointment
+     * @return the version, or a failed result with a {@code NotFoundException} if it does not
+     *         exist
+     */
+    Result<Version> getAppointmentVersion(UUID id);
+
+    /**
+     * Gets all existing appointments with the given ids in a single query.
+     *
+     * @param ids the ids of the appointments
+     * @return the appointments that exist, in no particular order
+     */
+    Result<List<Appointment>> getAppointments(Collection<UUID> ids);
+
+    /**
+     * Deletes all appointments with the given ids in a single statement.
+     *
+     * @param ids the ids of the appointments
+     * @return the ids of the appointments that were deleted
+     */
+    Result<Set<UUID>> deleteAppointments(Collection<UUID> ids);
+
+    /**
+     * Gets a page of appointments ordered by their creation time and id (keyset pagination).
+     *
+     * @param after the cursor of the previous page, or {@code null} for the first page
+     * @param limit the maximum number of appointments of the page
+     * @return the page. Its cursor is set, if the page is full.
+     */
+    Result<Page<Appointment>> getAppointmentsByCreation(PageCursor after, int limit);
+
+    /**
+     * Gets a page of appointments, whose date is within the given range, ordered by their date and
+     * id (keyset pagination).
+     *
+     * @param from the inclusive start of the range
+     * @param to the exclusive end of the range
+     * @param after the cursor of the previous page, or {@code null} for the first page
+     * @param limit the maximum number of appointments of the page
+     * @return the page. Its cursor is set, if the page is full.
+     */
+    Result<Page<Appointment>> getAppointmentsByDate(Instant from, Instant to, PageCursor after,
+        int limit);
+
+    /**
+     * Gets the version of a page of
+     * {@link #getAppointmentsByDate(Instant, Instant, PageCursor, int)} with a single aggregate
+     * query, without returning its appointments. The version changes, if an appointment of the page
+     * is created or deleted.
+     *
+     * @param from the inclusive start of the range
+     * @param to the exclusive end of the range
+     * @param after the cursor of the previous page, or {@code null} for the first page
+     * @param limit the maximum number of appointments of the page
+     * @return the version, {@link Version#EMPTY} if the page is empty
+     */
+    Result<Version> getAppointmentsVersionByDate(Instant from, Instant to, PageCursor after,
+        int limit);
+}
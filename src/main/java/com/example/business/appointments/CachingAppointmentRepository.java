@@ -0,0 +1,101 @@
+package com.example.business.appointments;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import com.example.core.models.Appointment;
+import com.example.core.primitives.pagination.Page;
+import com.example.core.primitives.pagination.PageCursor;
+import com.example.core.primitives.results.Result;
+import com.example.core.primitives.versions.Version;
+import jakarta.annotation.Priority;
+import jakarta.decorator.Decorator;
+import jakarta.decorator.Delegate;
+import jakarta.enterprise.inject.Any;
+import jakarta.inject.Inject;
+
+/**
+ * Decorates every {@link AppointmentRepository} with an {@link AppointmentCache} for appointments
+ * read by id. Creating and deleting appointments through the repository invalidates their
+ * entries, other instances of the service see changes after the cache entries expired.
+ *
+ * <p>
+ * The version of a cached appointment is answered from the cache. On a miss, only the version is
+ * read from the database, the cache is not populated.
+ * </p>
+ *
+ * <p>
+ * Only the blocking {@link AppointmentRepository} is decorated. With
+ * {@code appointment.persistence.mode=reactive}, the endpoints read through the
+ * {@link ReactiveAppointmentRepository} and bypass the cache.
+ * </p>
+ */
+@Decorator
+@Priority(10)
+public class CachingAppointmentRepository implements AppointmentRepository {
+    @Inject
+    @Any
+    @Delegate
+    AppointmentRepository appointmentRepository;
+
+    @Inject
+    AppointmentCache appointmentCache;
+
+    @Override
+    public Result<Appointment> createAppointment(Appointment appointment) {
+        var result = appointmentRepository.createAppointment(appointment);
+        appointmentCache.invalidate(List.of(appointment.id()));
+        return result;
+    }
+
+    @Override
+    public Result<List<Appointment>> createAppointments(List<Appointment> appointments) {
+        var result = appointmentRepository.createAppointments(appointments);
+        appointmentCache.invalidate(appointments.stream().map(Appointment::id).toList());
+        return result;
+    }
+
+    @Override
+    public Result<Appointment> getAppointment(UUID id) {
+        return appointmentCache.get(id, appointmentRepository::getAppointment);
+    }
+
+    @Override
+    public Result<Version> getAppointmentVersion(UUID id) {
+        return appointmentCache.getIfPresent(id)
+            .filter(appointment -> appointment.createdAt() != null)
+            .map(appointment -> Result.ok(Version.of(appointment.createdAt().toInstant())))
+            .orElseGet(() -> appointmentRepository.getAppointmentVersion(id));
+    }
+
+    @Override
+    public Result<List<Appointment>> getAppointments(Collection<UUID> ids) {
+        return appointmentCache.getAll(ids, appointmentRepository::getAppointments);
+    }
+
+    @Override
+    public Result<Set<UUID>> deleteAppointments(Collection<UUID> ids) {
+        var result = appointmentRepository.deleteAppointments(ids);
+        appointmentCache.invalidate(ids);
+        return result;
+    }
+
+    @Override
+    public Result<Page<Appointment>> getAppointmentsByCreation(PageCursor after, int limit) {
+        return appointmentRepository.getAppointmentsByCreation(after, limit);
+    }
+
+    @Override
+    public Result<Page<Appointment>> getAppointmentsByDate(Instant from, Instant to,
+        PageCursor after, int limit) {
+        return appointmentRepository.getAppointmentsByDate(from, to, after, limit);
+    }
+
+    @Override
+    public Result<Version> getAppointmentsVersionByDate(Instant from, Instant to,
+        PageCursor after, int limit) {
+        return appointmentRepository.getAppointmentsVersionByDate(from, to, after, limit);
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.business.appointments;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+import com.example.core.models.Appointment;
+import com.example.core.primitives.pagination.Page;
+import com.example.core.primitives.pagination.PageCursor;
+import com.example.core.primitives.results.Result;
+import com.example.core.primitives.versions.Version;
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.properties.UnlessBuildProperty;
+import io.quarkus.virtual.threads.VirtualThreads;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Blocking persistence mode: runs every call of the blocking {@link AppointmentRepository} on
+ * another thread, so the caller (e.g. the Vert.x event loop) is never blocked.
+ *
+ * <p>
+ * The runtime property {@code appointment.persistence.offload} selects the threads:
+ * {@code worker} (default) uses the bounded Quarkus worker pool, {@code virtual-threads} starts a
+ * virtual thread per call. With virtual threads, the number of concurrent database calls is only
+ * bounded by the connection pool. The executor preserves the Vert.x context of the request, and
+ * the code running on it must not block inside {@code synchronized}, to avoid pinning the carrier
+ * thread.
+ * </p>
+ */
+@ApplicationScoped
+@UnlessBuildProperty(name = "appointment.persistence.mode", stringValue = "reactive",
+    enableIfMissing = true)
+public class OffloadingAppointmentRepository implements ReactiveAppointmentRepository {
+    @Inject
+    AppointmentRepository appointmentRepository;
+
+    @Inject
+    @VirtualThreads
+    ExecutorService virtualThreads;
+
+    @ConfigProperty(name = "appointment.persistence.offload", defaultValue = "worker")
+    Offload offload;
+
+    private Executor executor;
+
+    @PostConstruct
+    void init() {
+        executor = switch (offload) {
+            case WORKER -> Infrastructure.getDefaultWorkerPool();
+            case VIRTUAL_THREADS -> virtualThreads;
+        };
+    }
+
+    @Override
+    public Uni<Result<Appointment>> createAppointment(Appointment appointment) {
+        return offload(() -> appointmentRepository.createAppointment(appointment));
+    }
+
+    @Override
+    public Uni<Result<List<Appointment>>> createAppointments(List<Appointment> appointments) {
+        return offload(() -> appointmentRepository.createAppointments(appointments));
+    }
+
+    @Override
+    public Uni<Result<Appointment>> getAppointment(UUID id) {
+        return offload(() -> appointmentRepository.getAppointment(id));
+    }
+
+    @Override
+    public Uni<Result<Version>> getAppointmentVersion(UUID id) {
+        return offload(() -> appointmentRepository.getAppointmentVersion(id));
+    }
+
+    @Override
+    public Uni<Result<List<Appointment>>> getAppointments(Collection<UUID> ids) {
+        return offload(() -> appointmentRepository.getAppointments(ids));
+    }
+
+    @Override
+    public Uni<Result<Set<UUID>>> deleteAppointments(Collection<UUID> ids) {
+        return offload(() -> appointmentRepository.deleteAppointments(ids));
+    }
+
+    @Override
+    public Uni<Result<Page<Appointment>>> getAppointmentsByCreation(PageCursor after, int limit) {
+        return offload(() -> appointmentRepository.getAppointmentsByCreation(after, limit));
+    }
+
+    @Override
+    public Uni<Result<Page<Appointment>>> getAppointmentsByDate(Instant from, Instant to,
+        PageCursor after, int limit) {
+        return offload(() -> appointmentRepository.getAppointmentsByDate(from, to, after, limit));
+    }
+
+    @Override
+    public Uni<Result<Version>> getAppointmentsVersionByDate(Instant from, Instant to,
+        PageCursor after, int limit) {
+        return offload(() ->
+            appointmentRepository.getAppointmentsVersionByDate(from, to, after, limit));
+    }
+
+    private <T> Uni<T> offload(Supplier<T> call) {
+        return Uni.createFrom().item(() -> withRequestContext(call)).runSubscriptionOn(executor);
+    }
+
+    /**
+     * Calls, that are not made within a request (e.g. lookups coalesced by a timer of the
+     * {@code CoalescingMiddleware}), get their own request context, which the persistence context
+     * of Hibernate ORM is bound to.
+     */
+    private static <T> T withRequestContext(Supplier<T> call) {
+        var requestContext = Arc.container().requestContext();
+        if (requestContext.isActive()) {
+            return call.get();
+        }
+        requestContext.activate();
+        try {
+            return call.get();
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    /**
+     * Threads, that run the blocking calls.
+     */
+    public enum Offload {
+        WORKER,
+        VIRTUAL_THREADS
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.business.appointments;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import com.example.core.models.Appointment;
+import com.example.core.primitives.pagination.Page;
+import com.example.core.primitives.pagination.PageCursor;
+import com.example.core.primitives.results.Result;
+import com.example.core.primitives.versions.Version;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Non-blocking access to the stored appointments, used by the command and query handlers. The
+ * operations are the same as of {@link AppointmentRepository}.
+ *
+ * <p>
+ * The implementation is selected with the build property {@code appointment.persistence.mode}:
+ * {@code blocking} (default) runs the blocking {@link AppointmentRepository} on worker threads,
+ * {@code reactive} uses the reactive database client of the infrastructure layer.
+ * </p>
+ */
+public interface ReactiveAppointmentRepository {
+    /**
+     * See {@link AppointmentRepository#createAppointment(Appointment)}.
+     */
+    Uni<Result<Appointment>> createAppointment(Appointment appointment);
+
+    /**
+     * See {@link AppointmentRepository#createAppointments(List)}.
+     */
+    Uni<Result<List<Appointment>>> createAppointments(List<Appointment> appointments);
+
+    /**
+     * See {@link AppointmentRepository#getAppointment(UUID)}.
+     */
+    Uni<Result<Appointment>> getAppointment(UUID id);
+
+    /**
+     * See {@link AppointmentRepository#getAppointmentVersion(UUID)}.
+     */
+    Uni<Result<Version>> getAppointmentVersion(UUID id);
+
+    /**
+     * See {@link AppointmentRepository#getAppointments(Collection)}.
+     */
+    Uni<Result<List<Appointment>>> getAppointments(Collection<UUID> ids);
+
+    /**
+     * See {@link AppointmentRepository#deleteAppointments(Collection)}.
+     */
+    Uni<Result<Set<UUID>>> deleteAppointments(Collection<UUID> ids);
+
+    /**
+     * See {@link AppointmentRepository#getAppointmentsByCreation(PageCursor, int)}.
+     */
+    Uni<Result<Page<Appointment>>> getAppointmentsByCreation(PageCursor after, int limit);
+
+    /**
+     * See {@link AppointmentRepository#getAppointmentsByDate(Instant, Instant, PageCursor, int)}.
+     */
+    Uni<Result<Page<Appointment>>> getAppointmentsByDate(Instant from, Instant to,
+        PageCursor after, int limit);
+
+    /**
+     * See
+     * {@link AppointmentRepository#getAppointmentsVersionByDate(Instant, Instant, PageCursor, int)}.
+     */
+    Uni<Result<Version>> getAppointmentsVersionByDate(Instant from, Instant to,
+        PageCursor after, int limit);
+}
@@ -0,0 +1,15 @@
+package com.example.business.appointments.commands;
+
+import an.awesome.pipelinr.Command;
+import com.example.core.models.Appointment;
+import com.example.core.primitives.results.Result;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Creates a new appointment. The id of {@code appointment} is ignored, a new one is generated.
+ *
+ * @param appointment the appointment to create
+ */
+public record CreateAppointmentCommand(Appointment appointment)
+    implements Command<Uni<Result<Appointment>>> {
+}
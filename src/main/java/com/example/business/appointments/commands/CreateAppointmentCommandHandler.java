@@ -0,0 +1,29 @@
+package com.example.business.appointments.commands;
+
+import an.awesome.pipelinr.Command;
+import com.example.business.appointments.ReactiveAppointmentRepository;
+import com.example.core.models.Appointment;
+import com.example.core.primitives.ids.IdGenerator;
+import com.example.core.primitives.results.Result;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Assigns a new, time-ordered id to the appointment and stores it.
+ */
+@ApplicationScoped
+public class CreateAppointmentCommandHandler
+    implements Command.Handler<CreateAppointmentCommand, Uni<Result<Appointment>>> {
+
+    @Inject
+    ReactiveAppointmentRepository appointmentRepository;
+
+    @Override
+    public Uni<Result<Appointment>> handle(CreateAppointmentCommand command) {
+        var appointment = command.appointment();
+        return appointmentRepository.createAppointment(new Appointment(IdGenerator.next(),
+            appointment.date(), appointment.location(), appointment.title(),
+            appointment.description(), appointment.creatorName(), null));
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.business.appointments.commands;
+
+import java.util.List;
+import an.awesome.pipelinr.Command;
+import com.example.core.models.Appointment;
+import com.example.core.primitives.results.Result;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Creates multiple appointments at once, e.g. for imports. The ids of the appointments are ignored,
+ * new ones are generated. The result contains one entry per appointment, in the order of
+ * {@code appointments}.
+ *
+ * @param appointments the appointments to create
+ */
+public record CreateAppointmentsCommand(List<Appointment> appointments)
+    implements Command<Uni<Result<List<Result<Appointment>>>>> {
+}
@@ -0,0 +1,90 @@
+package com.example.business.appointments.commands;
+
+import java.util.ArrayList;
+import java.util.List;
+import an.awesome.pipelinr.Command;
+import com.example.business.appointments.ReactiveAppointmentRepository;
+import com.example.core.exceptions.ErrorCode;
+import com.example.core.exceptions.InvalidArgumentException;
+import com.example.core.models.Appointment;
+import com.example.core.primitives.ids.IdGenerator;
+import com.example.core.primitives.results.Result;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Validates the appointments, assigns new ids and stores them in chunks of
+ * {@code appointment.bulk.chunk-size}, one transaction per chunk.
+ *
+ * <p>
+ * Invalid appointments are reported per item with {@link ErrorCode#DOM_INVALID_ARGUMENTS} and are
+ * not sent to the database. If the database rejects a chunk because of its data
+ * ({@link ErrorCode#INF_DB_CONSTRAINT_VIOLATION}), its appointments are stored one by one, so that
+ * only the appointments that actually fail are reported as failed. Any other failure, e.g. the
+ * database being unavailable, fails all appointments of the chunk with its error, since storing
+ * them one by one would fail as well and only add load to the database.
+ * </p>
+ */
+@ApplicationScoped
+public class CreateAppointmentsCommandHandler
+    implements Command.Handler<CreateAppointmentsCommand, Uni<Result<List<Result<Appointment>>>>> {
+
+    @Inject
+    ReactiveAppointmentRepository appointmentRepository;
+
+    @ConfigProperty(name = "appointment.bulk.chunk-size", defaultValue = "1000")
+    int chunkSize;
+
+    @Override
+    public Uni<Result<List<Result<Appointment>>>> handle(CreateAppointmentsCommand command) {
+        var appointments = command.appointments();
+        var results = new ArrayList<Result<Appointment>>(appointments.size());
+        var valid = new ArrayList<Appointment>(appointments.size());
+        for (int i = 0; i < appointments.size(); i++) {
+            var appointment = appointments.get(i);
+            if (appointment.date() == null) {
+                results.add(Result.fail(new InvalidArgumentException(
+                    ErrorCode.DOM_INVALID_ARGUMENTS, "Appointment " + i + " has no date.")));
+            } else {
+                results.add(null);
+                valid.add(new Appointment(IdGenerator.next(), appointment.date(),
+                    appointment.location(), appointment.title(), appointment.description(),
+                    appointment.creatorName(), null));
+            }
+        }
+
+        var chunks = new ArrayList<List<Appointment>>();
+        for (int from = 0; from < valid.size(); from += chunkSize) {
+            chunks.add(valid.subList(from, Math.min(from + chunkSize, valid.size())));
+        }
+        return Multi.createFrom().iterable(chunks)
+            .onItem().transformToUniAndConcatenate(this::createChunk)
+            .onItem().<Result<Appointment>>disjoint()
+            .collect().asList()
+            .map(created -> {
+                // Fill the positions of the valid appointments, in order
+                var iterator = created.iterator();
+                results.replaceAll(result -> result != null ? result : iterator.next());
+                return Result.ok(results);
+            });
+    }
+
+    private Uni<List<Result<Appointment>>> createChunk(List<Appointment> chunk) {
+        return appointmentRepository.createAppointments(chunk).flatMap(result -> {
+            if (result.isSuccess()) {
+                return Uni.createFrom().item(chunk.stream().map(Result::ok).toList());
+            }
+            var error = result.getError();
+            if (error.getErrorCode() != ErrorCode.INF_DB_CONSTRAINT_VIOLATION) {
+                return Uni.createFrom().item(
+                    chunk.stream().map(appointment -> Result.<Appointment>fail(error)).toList());
+            }
+            return Multi.createFrom().iterable(chunk)
+                .onItem().transformToUniAndConcatenate(appointmentRepository::createAppointment)
+                .collect().asList();
+        });
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.business.appointments.commands;
+
+import java.util.List;
+import java.util.UUID;
+import an.awesome.pipelinr.Command;
+import com.example.core.primitives.results.ActionResult;
+import com.example.core.primitives.results.Result;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Deletes multiple appointments at once. The result contains one entry per requested id, in the
+ * order of {@code ids}.
+ *
+ * @param ids the ids of the appointments
+ */
+public record DeleteAppointmentsCommand(List<UUID> ids)
+    implements Command<Uni<Result<List<ActionResult>>>> {
+}
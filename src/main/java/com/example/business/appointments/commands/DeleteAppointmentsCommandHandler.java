@@ -0,0 +1,43 @@
+package com.example.business.appointments.commands;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import an.awesome.pipelinr.Command;
+import com.example.business.appointments.ReactiveAppointmentRepository;
+import com.example.core.exceptions.NotFoundException;
+import com.example.core.primitives.results.ActionResult;
+import com.example.core.primitives.results.Result;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Deletes all requested appointments with a single repository call. Ids that did not exist are
+ * reported per id with {@link ErrorCode#DOM_NOT_FOUND}.
+ */
+@ApplicationScoped
+public class DeleteAppointmentsCommandHandler
+    implements Command.Handler<DeleteAppointmentsCommand, Uni<Result<List<ActionResult>>>> {
+
+    @Inject
+    ReactiveAppointmentRepository appointmentRepository;
+
+    @Override
+    public Uni<Result<List<ActionResult>>> handle(DeleteAppointmentsCommand command) {
+        return appointmentRepository.deleteAppointments(command.ids())
+            .map(result -> result.map(deletedIds -> inRequestOrder(command, deletedIds)));
+    }
+
+    private static List<ActionResult> inRequestOrder(DeleteAppointmentsCommand command,
+        Set<UUID> deletedIds) {
+        var results = new ArrayList<ActionResult>(command.ids().size());
+        for (var id : command.ids()) {
+            results.add(deletedIds.contains(id)
+                ? ActionResult.ok()
+                : ActionResult.error(NotFoundException.appointment(id)));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.business.appointments.queries;
+
+import an.awesome.pipelinr.Command;
+import com.example.core.models.Appointment;
+import io.smallrye.mutiny.Multi;
+
+/**
+ * Streams all appointments, ordered by their creation time.
+ */
+public record ExportAppointmentsQuery() implements Command<Multi<Appointment>> {
+}
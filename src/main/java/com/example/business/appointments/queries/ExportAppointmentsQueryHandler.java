@@ -0,0 +1,63 @@
+package com.example.business.appointments.queries;
+
+import java.util.List;
+import an.awesome.pipelinr.Command;
+import com.example.business.appointments.ReactiveAppointmentRepository;
+import com.example.core.models.Appointment;
+import com.example.core.primitives.pagination.PageCursor;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Streams all appointments page by page with keyset pagination on {@code (created_at, id)}.
+ *
+ * <p>
+ * A page is only loaded, when the subscriber requests more appointments than are left of the
+ * previous page. So at most one page is held in memory, regardless of the number of appointments,
+ * and a slow subscriber slows down the database reads. Appointments that are updated during the
+ * export move to the end of the sequence, so they may be emitted twice, but are never skipped.
+ * </p>
+ */
+@ApplicationScoped
+public class ExportAppointmentsQueryHandler
+    implements Command.Handler<ExportAppointmentsQuery, Multi<Appointment>> {
+
+    @Inject
+    ReactiveAppointmentRepository appointmentRepository;
+
+    @ConfigProperty(name = "appointment.export.page-size", defaultValue = "500")
+    int pageSize;
+
+    @Override
+    public Multi<Appointment> handle(ExportAppointmentsQuery query) {
+        return Multi.createBy().repeating()
+            .uni(ExportState::new, this::nextPage)
+            .until(List::isEmpty)
+            .onItem().<Appointment>disjoint();
+    }
+
+    private Uni<List<Appointment>> nextPage(ExportState state) {
+        if (state.done) {
+            return Uni.createFrom().item(List.of());
+        }
+        return appointmentRepository.getAppointmentsByCreation(state.after, pageSize)
+            .map(result -> {
+                var page = result.orElseThrow();
+                state.after = page.next();
+                state.done = !page.hasNext();
+                return page.items();
+            });
+    }
+
+    /**
+     * Position of a single export subscription.
+     */
+    private static final class ExportState {
+        private PageCursor after;
+
+        private boolean done;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.business.appointments.queries;
+
+import an.awesome.pipelinr.Command;
+import com.example.core.models.AppointmentChange;
+import io.smallrye.mutiny.Multi;
+
+/**
+ * Streams the changes of all appointments.
+ *
+ * @param lastEventId the id of the last change, that the client received, to resume after it, or
+ *        {@code null}
+ */
+public record GetAppointmentChangesQuery(Long lastEventId)
+    implements Command<Multi<AppointmentChange>> {
+}
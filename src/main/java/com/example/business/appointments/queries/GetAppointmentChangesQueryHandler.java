@@ -0,0 +1,25 @@
+package com.example.business.appointments.queries;
+
+import an.awesome.pipelinr.Command;
+import com.example.business.appointments.AppointmentChangeFeed;
+import com.example.core.models.AppointmentChange;
+import io.smallrye.mutiny.Multi;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Streams the changes of all appointments from the {@link AppointmentChangeFeed}. All subscribers
+ * share the feed, so a subscriber does not add load to the database.
+ */
+@ApplicationScoped
+public class GetAppointmentChangesQueryHandler
+    implements Command.Handler<GetAppointmentChangesQuery, Multi<AppointmentChange>> {
+
+    @Inject
+    AppointmentChangeFeed appointmentChangeFeed;
+
+    @Override
+    public Multi<AppointmentChange> handle(GetAppointmentChangesQuery query) {
+        return appointmentChangeFeed.getChanges(query.lastEventId());
+    }
+}
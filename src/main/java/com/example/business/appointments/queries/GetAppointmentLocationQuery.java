@@ -0,0 +1,15 @@
+package com.example.business.appointments.queries;
+
+import java.util.UUID;
+import an.awesome.pipelinr.Command;
+import com.example.core.models.Location;
+import com.example.core.primitives.results.Result;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Gets the location of an appointment.
+ *
+ * @param id the id of the appointment
+ */
+public record GetAppointmentLocationQuery(UUID id) implements Command<Uni<Result<Location>>> {
+}
@@ -0,0 +1,40 @@
+package com.example.business.appointments.queries;
+
+import an.awesome.pipelinr.Command;
+import com.example.business.appointments.ReactiveAppointmentRepository;
+import com.example.business.locations.LocationService;
+import com.example.core.exceptions.ErrorCode;
+import com.example.core.exceptions.NotFoundException;
+import com.example.core.models.Location;
+import com.example.core.primitives.results.Result;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
+public class GetAppointmentLocationQueryHandler
+    implements Command.Handler<GetAppointmentLocationQuery, Uni<Result<Location>>> {
+
+    @Inject
+    ReactiveAppointmentRepository appointmentRepository;
+
+    @Inject
+    LocationService locationService;
+
+    @Override
+    public Uni<Result<Location>> handle(GetAppointmentLocationQuery query) {
+        return appointmentRepository.getAppointment(query.id())
+            .flatMap(result -> {
+                if (!result.isSuccess()) {
+                    return Uni.createFrom().item(result.<Location>toFailedResult());
+                }
+                var location = result.getOk().location();
+                if (location == null || location.isBlank()) {
+                    return Uni.createFrom().item(Result.<Location>fail(new NotFoundException(
+                        ErrorCode.DOM_NOT_FOUND,
+                        "Appointment '" + query.id() + "' has no location.")));
+                }
+                return locationService.getLocation(location);
+            });
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.business.appointments.queries;
+
+import java.util.UUID;
+import an.awesome.pipelinr.Command;
+import com.example.core.models.Appointment;
+import com.example.core.primitives.results.Result;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Gets a single appointment by its id.
+ *
+ * @param id the id of the appointment
+ */
+public record GetAppointmentQuery(UUID id) implements Command<Uni<Result<Appointment>>> {
+}
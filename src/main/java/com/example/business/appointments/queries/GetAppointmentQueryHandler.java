@@ -0,0 +1,27 @@
+package com.example.business.appointments.queries;
+
+import an.awesome.pipelinr.Command;
+import com.example.business.appointments.ReactiveAppointmentRepository;
+import com.example.core.models.Appointment;
+import com.example.core.primitives.results.Result;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Reads a single appointment. Not invoked for queries, that the
+ * {@link com.example.business.middlewares.CoalescingMiddleware} reads in a batch with concurrent
+ * queries.
+ */
+@ApplicationScoped
+public class GetAppointmentQueryHandler
+    implements Command.Handler<GetAppointmentQuery, Uni<Result<Appointment>>> {
+
+    @Inject
+    ReactiveAppointmentRepository appointmentRepository;
+
+    @Override
+    public Uni<Result<Appointment>> handle(GetAppointmentQuery query) {
+        return appointmentRepository.getAppointment(query.id());
+    }
+}
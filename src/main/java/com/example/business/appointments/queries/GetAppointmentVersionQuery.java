@@ -0,0 +1,16 @@
+package com.example.business.appointments.queries;
+
+import java.util.UUID;
+import an.awesome.pipelinr.Command;
+import com.example.core.primitives.results.Result;
+import com.example.core.primitives.versions.Version;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Gets the version of a single appointment, to answer conditional requests without reading the
+ * appointment.
+ *
+ * @param id the id of the appointment
+ */
+public record GetAppointmentVersionQuery(UUID id) implements Command<Uni<Result<Version>>> {
+}
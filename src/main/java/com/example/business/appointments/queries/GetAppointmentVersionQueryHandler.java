@@ -0,0 +1,22 @@
+package com.example.business.appointments.queries;
+
+import an.awesome.pipelinr.Command;
+import com.example.business.appointments.ReactiveAppointmentRepository;
+import com.example.core.primitives.results.Result;
+import com.example.core.primitives.versions.Version;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
+public class GetAppointmentVersionQueryHandler
+    implements Command.Handler<GetAppointmentVersionQuery, Uni<Result<Version>>> {
+
+    @Inject
+    ReactiveAppointmentRepository appointmentRepository;
+
+    @Override
+    public Uni<Result<Version>> handle(GetAppointmentVersionQuery query) {
+        return appointmentRepository.getAppointmentVersion(query.id());
+    }
+}
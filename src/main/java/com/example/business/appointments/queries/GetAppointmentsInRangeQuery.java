@@ -0,0 +1,21 @@
+package com.example.business.appointments.queries;
+
+import java.time.Instant;
+import an.awesome.pipelinr.Command;
+import com.example.core.models.Appointment;
+import com.example.core.primitives.pagination.Page;
+import com.example.core.primitives.pagination.PageCursor;
+import com.example.core.primitives.results.Result;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Gets a page of appointments, whose date is within the given range.
+ *
+ * @param from the inclusive start of the range
+ * @param to the exclusive end of the range
+ * @param limit the maximum number of appointments of the page
+ * @param after the cursor of the previous page, or {@code null} for the first page
+ */
+public record GetAppointmentsInRangeQuery(Instant from, Instant to, int limit, PageCursor after)
+    implements Command<Uni<Result<Page<Appointment>>>> {
+}
@@ -0,0 +1,30 @@
+package com.example.business.appointments.queries;
+
+import an.awesome.pipelinr.Command;
+import com.example.business.appointments.ReactiveAppointmentRepository;
+import com.example.core.exceptions.ErrorCode;
+import com.example.core.exceptions.InvalidArgumentException;
+import com.example.core.models.Appointment;
+import com.example.core.primitives.pagination.Page;
+import com.example.core.primitives.results.Result;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
+public class GetAppointmentsInRangeQueryHandler
+    implements Command.Handler<GetAppointmentsInRangeQuery, Uni<Result<Page<Appointment>>>> {
+
+    @Inject
+    ReactiveAppointmentRepository appointmentRepository;
+
+    @Override
+    public Uni<Result<Page<Appointment>>> handle(GetAppointmentsInRangeQuery query) {
+        if (!query.from().isBefore(query.to())) {
+            return Uni.createFrom().item(Result.fail(new InvalidArgumentException(
+                ErrorCode.DOM_INVALID_ARGUMENTS, "The start of the range must be before its end.")));
+        }
+        return appointmentRepository.getAppointmentsByDate(query.from(), query.to(), query.after(),
+            query.limit());
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.business.appointments.queries;
+
+import java.time.Instant;
+import an.awesome.pipelinr.Command;
+import com.example.core.primitives.pagination.PageCursor;
+import com.example.core.primitives.results.Result;
+import com.example.core.primitives.versions.Version;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Gets the version of a page of {@link GetAppointmentsInRangeQuery}, to answer conditional
+ * requests without reading the page.
+ *
+ * @param from the inclusive start of the range
+ * @param to the exclusive end of the range
+ * @param limit the maximum number of appointments of the page
+ * @param after the cursor of the previous page, or {@code null} for the first page
+ */
+public record GetAppointmentsInRangeVersionQuery(Instant from, Instant to, int limit,
+    PageCursor after)
+    implements Command<Uni<Result<Version>>> {
+}
@@ -0,0 +1,29 @@
+package com.example.business.appointments.queries;
+
+import an.awesome.pipelinr.Command;
+import com.example.business.appointments.ReactiveAppointmentRepository;
+import com.example.core.exceptions.ErrorCode;
+import com.example.core.exceptions.InvalidArgumentException;
+import com.example.core.primitives.results.Result;
+import com.example.core.primitives.versions.Version;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
+public class GetAppointmentsInRangeVersionQueryHandler
+    implements Command.Handler<GetAppointmentsInRangeVersionQuery, Uni<Result<Version>>> {
+
+    @Inject
+    ReactiveAppointmentRepository appointmentRepository;
+
+    @Override
+    public Uni<Result<Version>> handle(GetAppointmentsInRangeVersionQuery query) {
+        if (!query.from().isBefore(query.to())) {
+            return Uni.createFrom().item(Result.fail(new InvalidArgumentException(
+                ErrorCode.DOM_INVALID_ARGUMENTS, "The start of the range must be before its end.")));
+        }
+        return appointmentRepository.getAppointmentsVersionByDate(query.from(), query.to(),
+            query.after(), query.limit());
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.business.appointments.queries;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+import an.awesome.pipelinr.Command;
+import com.example.business.appointments.ReactiveAppointmentRepository;
+import com.example.core.exceptions.NotFoundException;
+import com.example.core.models.Appointment;
+import com.example.core.primitives.results.Result;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Loads all requested appointments with a single repository call and returns them in request
+ * order. Missing appointments are reported per id with {@link ErrorCode#DOM_NOT_FOUND}.
+ */
+@ApplicationScoped
+public class GetAppointmentsQueryHandler
+    implements Command.Handler<GetAppointmentsQuery, Uni<Result<List<Result<Appointment>>>>> {
+
+    @Inject
+    ReactiveAppointmentRepository appointmentRepository;
+
+    @Override
+    public Uni<Result<List<Result<Appointment>>>> handle(GetAppointmentsQuery query) {
+        return appointmentRepository.getAppointments(query.ids())
+            .map(result -> result.map(appointments -> inRequestOrder(query, appointments)));
+    }
+
+    private static List<Result<Appointment>> inRequestOrder(GetAppointmentsQuery query,
+        List<Appointment> appointments) {
+        var appointmentsById = HashMap.<UUID, Appointment>newHashMap(appointments.size());
+        appointments.forEach(appointment -> appointmentsById.put(appointment.id(), appointment));
+
+        var results = new ArrayList<Result<Appointment>>(query.ids().size());
+        for (var id : query.ids()) {
+            var appointment = appointmentsById.get(id);
+            results.add(appointment != null
+                ? Result.ok(appointment)
+                : Result.fail(NotFoundException.appointment(id)));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.business.config;
+
+import com.example.business.appointments.commands.CreateAppointmentCommandHandler;
+import com.example.business.appointments.commands.CreateAppointmentsCommandHandler;
+import com.example.business.appointments.commands.DeleteAppointmentsCommandHandler;
+import com.example.business.appointments.queries.ExportAppointmentsQueryHandler;
+import com.example.business.appointments.queries.GetAppointmentChangesQueryHandler;
+import com.example.business.appointments.queries.GetAppointmentLocationQueryHandler;
+import com.example.business.appointments.queries.GetAppointmentQueryHandler;
+import com.example.business.appointments.queries.GetAppointmentVersionQueryHandler;
+import com.example.business.appointments.queries.GetAppointmentsInRangeQueryHandler;
+import com.example.business.appointments.queries.GetAppointmentsInRangeVersionQueryHandler;
+import com.example.business.appointments.queries.GetAppointmentsQueryHandler;
+import com.example.core.primitives.results.ActionResult;
+import com.example.core.primitives.results.Result;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * Registers the classes for reflection in a native image, that are inspected at runtime.
+ *
+ * <p>
+ * {@link PrecompiledPipeline} reads the generic {@code Command.Handler} interface and the declared
+ * methods of every handler, so each handler has to be listed here. The architecture tests fail, if
+ * a handler is missing. The result types are registered together with their nested {@code Ok},
+ * {@code Fail} and {@code Empty} classes. MapStruct mappers are generated CDI beans and need no
+ * registration.
+ * </p>
+ */
+@RegisterForReflection(targets = {
+    CreateAppointmentCommandHandler.class,
+    CreateAppointmentsCommandHandler.class,
+    DeleteAppointmentsCommandHandler.class,
+    ExportAppointmentsQueryHandler.class,
+    GetAppointmentChangesQueryHandler.class,
+    GetAppointmentLocationQueryHandler.class,
+    GetAppointmentQueryHandler.class,
+    GetAppointmentVersionQueryHandler.class,
+    GetAppointmentsInRangeQueryHandler.class,
+    GetAppointmentsInRangeVersionQueryHandler.class,
+    GetAppointmentsQueryHandler.class,
+    ActionResult.class,
+    Result.class,
+})
+public final class NativeImageConfiguration {
+    private NativeImageConfiguration() {
+    }
+}
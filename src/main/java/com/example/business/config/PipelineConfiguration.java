@@ -0,0 +1,49 @@
+package com.example.business.config;
+
+import java.util.List;
+import an.awesome.pipelinr.Command;
+import an.awesome.pipelinr.Pipeline;
+import io.quarkus.arc.All;
+import io.quarkus.arc.Unremovable;
+import io.quarkus.runtime.Startup;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Inject;
+
+/**
+ * Pipeline configuration used for dependency injection. Used for the Mediator pattern. see:
+ * https://github.com/sizovs/PipelinR
+ */
+@ApplicationScoped
+public class PipelineConfiguration {
+
+    @Inject
+    Instance<Command.Handler<?, ?>> handlers;
+
+    /**
+     * Sorted by {@code @Priority}, the middleware with the highest priority is invoked first.
+     */
+    @Inject
+    @All
+    List<Command.Middleware> middlewares;
+
+    /**
+     * Produces a {@link Pipeline} instance that is application-scoped.
+     *
+     * <p>
+     * This method collects all command handlers and middlewares once at startup and initializes a
+     * {@link PrecompiledPipeline} with them. Handlers are resolved per command type on first use
+     * and cached, so sending a command does not perform any CDI lookups.
+     * </p>
+     *
+     * @return a configured {@link Pipeline} instance.
+     */
+    @Produces
+    @ApplicationScoped
+    @Startup
+    @Unremovable
+    public Pipeline pipeline() {
+        return new PrecompiledPipeline(handlers.stream().toList(), middlewares);
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.business.config;
+
+import an.awesome.pipelinr.Command;
+import an.awesome.pipelinr.CommandHandlerNotFoundException;
+import an.awesome.pipelinr.CommandHasMultipleHandlersException;
+import an.awesome.pipelinr.Notification;
+import an.awesome.pipelinr.Pipeline;
+import an.awesome.pipelinr.Pipelinr;
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.arc.Subclass;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@link Pipeline} that resolves its command handlers and middlewares once instead of on every
+ * {@link #send(Command)}.
+ *
+ * <p>
+ * {@link Pipelinr} streams all handlers for every command and calls {@link Command.Handler#matches}
+ * on each of them, which resolves the generic handler type by reflection. This implementation reads
+ * the command type of every handler when it is constructed and caches the matching handler per
+ * command class. Handlers that override {@code matches} are still asked on every call, so the
+ * routing behaves exactly like {@link Pipelinr}.
+ * </p>
+ */
+final class PrecompiledPipeline implements Pipeline {
+    private final List<Route> routes;
+
+    private final Command.Middleware[] middlewares;
+
+    private final ClassValue<Route[]> routesByCommand = new ClassValue<>() {
+        @Override
+        protected Route[] computeValue(Class<?> commandType) {
+            return routes.stream().filter(route -> route.accepts(commandType))
+                .toArray(Route[]::new);
+        }
+    };
+
+    private final Pipeline notifications = new Pipelinr();
+
+    PrecompiledPipeline(List<? extends Command.Handler<?, ?>> handlers,
+        List<? extends Command.Middleware> middlewares) {
+        this.routes = handlers.stream().map(Route::of).toList();
+        this.middlewares = middlewares.toArray(Command.Middleware[]::new);
+    }
+
+    @Override
+    public <R, C extends Command<R>> R send(C command) {
+        Objects.requireNonNull(command, "Command must not be null");
+        var handler = this.<R, C>resolve(command);
+        return invoke(command, handler, 0);
+    }
+
+    @Override
+    public <N extends Notification> void send(N notification) {
+        notifications.send(notification);
+    }
+
+    private <R, C extends Command<R>> R invoke(C command, Command.Handler<C, R> handler, int index) {
+        if (index == middlewares.length) {
+            return handler.handle(command);
+        }
+        return middlewares[index].invoke(command, () -> invoke(command, handler, index + 1));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private <R, C extends Command<R>> Command.Handler<C, R> resolve(C command) {
+        var candidates = routesByCommand.get(command.getClass());
+        if (candidates.length == 1 && !candidates[0].dynamic()) {
+            return (Command.Handler<C, R>) candidates[0].handler();
+        }
+
+        var matching = new ArrayList<Command.Handler>(1);
+        for (var candidate : candidates) {
+            if (!candidate.dynamic() || ((Command.Handler) candidate.handler()).matches(command)) {
+                matching.add(candidate.handler());
+            }
+        }
+        if (matching.isEmpty()) {
+            throw new CommandHandlerNotFoundException(command);
+        }
+        if (matching.size() > 1) {
+            throw new CommandHasMultipleHandlersException(command, matching);
+        }
+        return matching.get(0);
+    }
+
+    /**
+     * A handler together with the command type it was declared for.
+     *
+     * @param handler the handler instance
+     * @param commandType the declared command type, or {@code null} if it cannot be resolved
+     * @param dynamic {@code true} if {@link Command.Handler#matches} has to be called per command
+     */
+    private record Route(Command.Handler<?, ?> handler, Class<?> commandType, boolean dynamic) {
+
+        static Route of(Command.Handler<?, ?> handler) {
+            var beanClass = beanClass(handler.getClass());
+            var commandType = commandType(beanClass);
+            return new Route(handler, commandType, commandType == null || overridesMatches(beanClass));
+        }
+
+        boolean accepts(Class<?> command) {
+            return commandType == null || commandType.isAssignableFrom(command);
+        }
+
+        /**
+         * Skips the client proxies and interceptor subclasses generated by ArC.
+         */
+        private static Class<?> beanClass(Class<?> type) {
+            var current = type;
+            while (current.getSuperclass() != null
+                && Arrays.stream(current.getInterfaces())
+                    .anyMatch(i -> i == ClientProxy.class || i == Subclass.class)) {
+                current = current.getSuperclass();
+            }
+            return current;
+        }
+
+        private static Class<?> commandType(Class<?> beanClass) {
+            for (var current = beanClass; current != null; current = current.getSuperclass()) {
+                for (Type type : current.getGenericInterfaces()) {
+                    if (type instanceof ParameterizedType parameterized
+                        && parameterized.getRawType() == Command.Handler.class) {
+                        var argument = parameterized.getActualTypeArguments()[0];
+                        if (argument instanceof Class<?> commandClass) {
+                            return commandClass;
+                        }
+                        if (argument instanceof ParameterizedType parameterizedArgument) {
+                            return (Class<?>) parameterizedArgument.getRawType();
+                        }
+                        return null;
+                    }
+                }
+            }
+            return null;
+        }
+
+        private static boolean overridesMatches(Class<?> beanClass) {
+            for (var current = beanClass; current != null && current != Object.class;
+                current = current.getSuperclass()) {
+                for (Method method : current.getDeclaredMethods()) {
+                    if (method.getName().equals("matches") && method.getParameterCount() == 1
+                        && !method.isSynthetic()) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.business.locations;
+
+import com.example.core.models.Location;
+import com.example.core.primitives.results.Result;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Provides the details of appointment locations from the external location service. Implemented
+ * by the infrastructure layer.
+ */
+public interface LocationService {
+    /**
+     * Gets a single location.
+     *
+     * @param name the name of the location
+     * @return the location, or a failed result with a {@code NotFoundException} if it does not
+     *         exist, or a {@code ServiceUnavailableException} if the location service is slow or
+     *         unavailable
+     */
+    Uni<Result<Location>> getLocation(String name);
+}
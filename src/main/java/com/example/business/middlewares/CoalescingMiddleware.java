@@ -0,0 +1,225 @@
+package com.example.business.middlewares;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import an.awesome.pipelinr.Command;
+import com.example.business.appointments.ReactiveAppointmentRepository;
+import com.example.business.appointments.queries.GetAppointmentQuery;
+import com.example.core.exceptions.NotFoundException;
+import com.example.core.models.Appointment;
+import com.example.core.primitives.results.Result;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Coalesces concurrent {@link GetAppointmentQuery}s into batches, that are read with a single call
+ * of {@link ReactiveAppointmentRepository#getAppointments}, similar to a DataLoader.
+ *
+ * <p>
+ * A query, that is subscribed while no read is in flight, is passed to the query handler right
+ * away, so a single query never waits. A query, that is subscribed during a read, starts a batch
+ * with a window of {@code appointment.coalescing.window}. All queries subscribed within the window
+ * join the batch, which is read when the window ends or as soon as it contains
+ * {@code appointment.coalescing.max-batch-size} distinct ids. The window is therefore the maximum
+ * latency, that is added to a query under load. Every caller gets its own result, appointments that
+ * do not exist fail with a {@link NotFoundException}, a failed batch fails all of its queries.
+ * Batches are read by this middleware, without the query handler: a batch of a single id with
+ * {@link ReactiveAppointmentRepository#getAppointment}, larger batches with
+ * {@link ReactiveAppointmentRepository#getAppointments}. A window of zero disables coalescing.
+ * </p>
+ *
+ * <p>
+ * The distinct ids per batch are recorded in the histogram {@code pipeline.coalescing.batch.size},
+ * tagged with the {@code trigger} of the read ({@code window} or {@code size}).
+ * </p>
+ */
+@ApplicationScoped
+@Priority(100)
+public class CoalescingMiddleware implements Command.Middleware {
+    private final ReactiveAppointmentRepository appointmentRepository;
+
+    private final long windowNanos;
+
+    private final int maxBatchSize;
+
+    private final DistributionSummary windowBatches;
+
+    private final DistributionSummary fullBatches;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * The reads in flight, including the open batch.
+     */
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * The batch, that new queries join. Guarded by {@link #lock}.
+     */
+    private Batch current;
+
+    @Inject
+    public CoalescingMiddleware(ReactiveAppointmentRepository appointmentRepository,
+        MeterRegistry registry,
+        @ConfigProperty(name = "appointment.coalescing.window", defaultValue = "PT0S")
+        Duration window,
+        @ConfigProperty(name = "appointment.coalescing.max-batch-size", defaultValue = "100")
+        int maxBatchSize) {
+        if (window.isNegative() || maxBatchSize < 1) {
+            throw new IllegalArgumentException("The coalescing window must not be negative and the"
+                + " maximum batch size must be positive.");
+        }
+        this.appointmentRepository = appointmentRepository;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.windowBatches = batchSize(registry, "window");
+        this.fullBatches = batchSize(registry, "size");
+    }
+
+    private static DistributionSummary batchSize(MeterRegistry registry, String trigger) {
+        return DistributionSummary.builder("pipeline.coalescing.batch.size")
+            .description("Distinct appointment ids, that are read with a single coalesced query")
+            .tag("trigger", trigger)
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R, C extends Command<R>> R invoke(C command, Next<R> next) {
+        if (windowNanos == 0 || !(command instanceof GetAppointmentQuery query)) {
+            return next.invoke();
+        }
+        // Decided on every subscription, since only a subscribed query is in flight
+        return (R) Uni.createFrom().<Result<Appointment>>deferred(() -> {
+            if (inFlight.compareAndSet(0, 1)) {
+                return ((Uni<Result<Appointment>>) next.invoke())
+                    .onTermination().invoke(inFlight::decrementAndGet);
+            }
+            return Uni.createFrom().emitter(emitter -> add(query.id(), emitter));
+        });
+    }
+
+    private void add(UUID id, UniEmitter<? super Result<Appointment>> emitter) {
+        Batch full = null;
+        lock.lock();
+        try {
+            if (current == null) {
+                var batch = new Batch();
+                current = batch;
+                inFlight.incrementAndGet();
+                Infrastructure.getDefaultWorkerPool()
+                    .schedule(() -> onWindowEnd(batch), windowNanos, TimeUnit.NANOSECONDS);
+            }
+            current.add(id, emitter);
+            if (current.size() >= maxBatchSize) {
+                full = current;
+                current = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (full != null) {
+            read(full, fullBatches);
+        }
+    }
+
+    private void onWindowEnd(Batch batch) {
+        lock.lock();
+        try {
+            if (current != batch) {
+                // Already read, because it was full
+                return;
+            }
+            current = null;
+        } finally {
+            lock.unlock();
+        }
+        read(batch, windowBatches);
+    }
+
+    private void read(Batch batch, DistributionSummary batchSize) {
+        batchSize.record(batch.size());
+        var ids = batch.ids();
+        if (ids.size() == 1) {
+            var id = ids.getFirst();
+            appointmentRepository.getAppointment(id)
+                .onTermination().invoke(inFlight::decrementAndGet)
+                .subscribe().with(result -> batch.complete(id, result), batch::fail);
+            return;
+        }
+        appointmentRepository.getAppointments(ids)
+            .onTermination().invoke(inFlight::decrementAndGet)
+            .subscribe().with(result -> {
+                if (!result.isSuccess()) {
+                    batch.completeAll(result.toFailedResult());
+                    return;
+                }
+                var appointments = new HashMap<UUID, Appointment>();
+                for (var appointment : result.getOk()) {
+                    appointments.put(appointment.id(), appointment);
+                }
+                for (var id : ids) {
+                    var appointment = appointments.get(id);
+                    batch.complete(id, appointment != null
+                        ? Result.ok(appointment)
+                        : Result.fail(NotFoundException.appointment(id)));
+                }
+            }, batch::fail);
+    }
+
+    /**
+     * The waiting queries of a batch, grouped by id.
+     */
+    private static final class Batch {
+        private final Map<UUID, List<UniEmitter<? super Result<Appointment>>>> emitters =
+            new LinkedHashMap<>();
+
+        void add(UUID id, UniEmitter<? super Result<Appointment>> emitter) {
+            emitters.computeIfAbsent(id, key -> new ArrayList<>(1)).add(emitter);
+        }
+
+        int size() {
+            return emitters.size();
+        }
+
+        List<UUID> ids() {
+            return List.copyOf(emitters.keySet());
+        }
+
+        void complete(UUID id, Result<Appointment> result) {
+            for (var emitter : emitters.get(id)) {
+                emitter.complete(result);
+            }
+        }
+
+        void completeAll(Result<Appointment> result) {
+            for (var id : emitters.keySet()) {
+                complete(id, result);
+            }
+        }
+
+        void fail(Throwable failure) {
+            for (var waiting : emitters.values()) {
+                for (var emitter : waiting) {
+                    emitter.fail(failure);
+                }
+            }
+        }
+    }
+}
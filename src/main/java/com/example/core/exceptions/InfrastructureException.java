@@ -0,0 +1,16 @@
+package com.example.core.exceptions;
+
+import com.example.core.exceptions.base.DomainException;
+import com.example.core.exceptions.base.ResponseMappable;
+import jakarta.ws.rs.core.Response.Status;
+
+/**
+ * Returned by the infrastructure layer, when an external system (e.g. the database) failed
+ * unexpectedly.
+ */
+@ResponseMappable(Status.INTERNAL_SERVER_ERROR)
+public class InfrastructureException extends DomainException {
+    public InfrastructureException(ErrorCode errorCode, String message, Throwable cause) {
+        super(errorCode, message, cause);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.core.exceptions;
+
+import com.example.core.exceptions.base.DomainException;
+import com.example.core.exceptions.base.ResponseMappable;
+import jakarta.ws.rs.core.Response.Status;
+
+/**
+ * Thrown or returned, when the arguments of an operation are invalid. This is an expected failure,
+ * so it is created without stack trace.
+ */
+@ResponseMappable(Status.BAD_REQUEST)
+public class InvalidArgumentException extends DomainException {
+    public InvalidArgumentException(ErrorCode errorCode, String message) {
+        super(errorCode, message, false);
+    }
+}
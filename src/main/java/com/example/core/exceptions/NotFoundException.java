@@ -0,0 +1,39 @@
+package com.example.core.exceptions;
+
+import java.util.UUID;
+import com.example.core.exceptions.base.DomainException;
+import com.example.core.exceptions.base.ResponseMappable;
+import jakarta.ws.rs.core.Response.Status;
+
+/**
+ * Thrown or returned, when a requested object does not exist. This is an expected failure, so it is
+ * created without stack trace by default.
+ */
+@ResponseMappable(Status.NOT_FOUND)
+public class NotFoundException extends DomainException {
+    public NotFoundException(ErrorCode errorCode, String message) {
+        super(errorCode, message, false);
+    }
+
+    /**
+     * Creates a new exception, that records its stack trace if {@code writableStackTrace} is set.
+     *
+     * @param errorCode the error code.
+     * @param message the detail message.
+     * @param writableStackTrace {@code true} to fill in the stack trace.
+     */
+    public NotFoundException(ErrorCode errorCode, String message, boolean writableStackTrace) {
+        super(errorCode, message, writableStackTrace);
+    }
+
+    /**
+     * Creates the exception for an appointment, that does not exist.
+     *
+     * @param id the id of the appointment.
+     * @return a new exception with {@link ErrorCode#DOM_NOT_FOUND}.
+     */
+    public static NotFoundException appointment(UUID id) {
+        return new NotFoundException(ErrorCode.DOM_NOT_FOUND,
+            "Appointment '" + id + "' was not found.");
+    }
+}
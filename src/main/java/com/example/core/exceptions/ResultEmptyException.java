@@ -0,0 +1,28 @@
+package com.example.core.exceptions;
+
+import com.example.core.exceptions.base.DomainException;
+import com.example.core.exceptions.base.ResponseMappable;
+import jakarta.ws.rs.core.Response.Status;
+
+@ResponseMappable(Status.INTERNAL_SERVER_ERROR)
+public class ResultEmptyException extends DomainException {
+    public ResultEmptyException(ErrorCode errorCode, String message) {
+        super(errorCode, message);
+    }
+
+    private ResultEmptyException(ErrorCode errorCode, String message, boolean writableStackTrace) {
+        super(errorCode, message, writableStackTrace);
+    }
+
+    /**
+     * Creates an exception without stack trace. Each misuse of a result gets its own instance, so
+     * it is reported with its own error id and date.
+     *
+     * @param errorCode the error code.
+     * @param message the detail message.
+     * @return the exception.
+     */
+    public static ResultEmptyException stackless(ErrorCode errorCode, String message) {
+        return new ResultEmptyException(errorCode, message, false);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.core.exceptions;
+
+import com.example.core.exceptions.base.DomainException;
+import com.example.core.exceptions.base.ResponseMappable;
+import jakarta.ws.rs.core.Response.Status;
+
+/**
+ * Returned by the infrastructure layer, when an external system is temporarily unavailable, e.g.
+ * it did not answer in time or calls are rejected by a circuit breaker. Such failures are expected
+ * while the system is degraded and may be frequent, so they are created without stack trace.
+ */
+@ResponseMappable(Status.SERVICE_UNAVAILABLE)
+public class ServiceUnavailableException extends DomainException {
+    public ServiceUnavailableException(ErrorCode errorCode, String message) {
+        super(errorCode, message, false);
+    }
+}
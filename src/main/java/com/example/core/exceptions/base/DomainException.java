@@ -0,0 +1,95 @@
+package com.example.core.exceptions.base;
+
+import java.time.Instant;
+import com.example.core.exceptions.ErrorCode;
+
+/**
+ * Base class for domain exceptions. Exceptions inherited from this type may be used accross
+ * boundaries (infrastructure, business, api).
+ *
+ * <p>
+ * Expected failures, that are returned as {@code Result.fail(...)} on regular paths (e.g. an object
+ * that was not found), should be constructed stackless with
+ * {@link #DomainException(ErrorCode, String, boolean)}. Unexpected errors keep their full stack
+ * trace.
+ * </p>
+ *
+ * @apiNote Inherit to Exceptions, that are annotated with {@link ResponseMappable}. These can be
+ *          transformed to HttpErrorResponses
+ */
+public abstract class DomainException extends RuntimeException implements Cloneable {
+    private final ErrorCode errorCode;
+
+    private final String errorId;
+
+    private final Instant errorDate;
+
+    /**
+     * Creates a new domain exception with a full stack trace.
+     *
+     * @param errorCode the error code.
+     * @param message the detail message.
+     */
+    protected DomainException(ErrorCode errorCode, String message) {
+        this(errorCode, message, true);
+    }
+
+    /**
+     * Creates a new domain exception with a full stack trace, caused by another exception.
+     *
+     * @param errorCode the error code.
+     * @param message the detail message.
+     * @param cause the cause.
+     */
+    protected DomainException(ErrorCode errorCode, String message, Throwable cause) {
+        super(message, cause);
+
+        this.errorCode = errorCode;
+        this.errorId = ErrorIds.next();
+        this.errorDate = Instant.now();
+    }
+
+    /**
+     * Creates a new domain exception.
+     *
+     * @param errorCode the error code.
+     * @param message the detail message.
+     * @param writableStackTrace {@code false} to skip filling in the stack trace and to disable
+     *        suppression. Use this for expected failures and for instances that are created once
+     *        and shared.
+     */
+    protected DomainException(ErrorCode errorCode, String message, boolean writableStackTrace) {
+        super(message, null, writableStackTrace, writableStackTrace);
+
+        this.errorCode = errorCode;
+        this.errorId = ErrorIds.next();
+        this.errorDate = Instant.now();
+    }
+
+    /**
+     * Gets the error code.
+     *
+     * @return the error code.
+     */
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+
+    /**
+     * Gets the generated error id to identify a specific event.
+     *
+     * @return the generated error id to identify a specific event.
+     */
+    public String getErrorId() {
+        return errorId;
+    }
+
+    /**
+     * Gets the occurence date of the error.
+     *
+     * @return the occurence date of the error.
+     */
+    public Instant getErrorDate() {
+        return errorDate;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.core.exceptions.base;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates the ids of {@link DomainException}s.
+ *
+ * <p>
+ * An id consists of 16 lowercase hex characters: a random node prefix of 32 bits, chosen once per
+ * JVM, followed by a 32 bit sequence, that starts at a random offset. Two JVMs only produce the same
+ * ids, if they draw the same node and their sequences overlap, so ids identify an event across the
+ * whole fleet. Platform threads reserve blocks of the sequence, so generating an id neither needs a
+ * random number nor contends on a shared counter. Virtual threads are usually short lived and would
+ * waste most of a block, so they increment the shared sequence directly.
+ * </p>
+ */
+final class ErrorIds {
+    static final int BLOCK_SIZE = 256;
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static final ErrorIds INSTANCE = new ErrorIds(
+        ThreadLocalRandom.current().nextInt() & 0xFFFF_FFFFL,
+        ThreadLocalRandom.current().nextInt() & 0xFFFF_FFFFL);
+
+    private final long node;
+
+    private final AtomicLong next;
+
+    private final ThreadLocal<long[]> sequence = ThreadLocal.withInitial(() -> new long[2]);
+
+    /**
+     * Creates a generator.
+     *
+     * @param node the node prefix, the lower 32 bits are used.
+     * @param offset the first value of the sequence.
+     */
+    ErrorIds(long node, long offset) {
+        this.node = (node & 0xFFFF_FFFFL) << 32;
+        this.next = new AtomicLong(offset);
+    }
+
+    /**
+     * Returns the next error id of this JVM.
+     *
+     * @return a 16 character hex id.
+     */
+    static String next() {
+        return INSTANCE.nextId();
+    }
+
+    /**
+     * Returns the next error id of this generator.
+     *
+     * @return a 16 character hex id.
+     */
+    String nextId() {
+        if (Thread.currentThread().isVirtual()) {
+            return encode(node | (next.getAndIncrement() & 0xFFFF_FFFFL));
+        }
+        var block = sequence.get();
+        if (block[0] == block[1]) {
+            block[0] = next.getAndAdd(BLOCK_SIZE);
+            block[1] = block[0] + BLOCK_SIZE;
+        }
+        return encode(node | (block[0]++ & 0xFFFF_FFFFL));
+    }
+
+    private static String encode(long value) {
+        var chars = new char[16];
+        for (int i = chars.length - 1; i >= 0; i--) {
+            chars[i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.core.exceptions.base;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import jakarta.ws.rs.core.Response.Status;
+
+/**
+ * Marks a {@link DomainException} as mappable to an HTTP error response with the given status.
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ResponseMappable {
+    /**
+     * The HTTP status of the error response.
+     *
+     * @return the HTTP status of the error response.
+     */
+    Status value();
+}
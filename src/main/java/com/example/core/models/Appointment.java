@@ -0,0 +1,26 @@
+package com.example.core.models;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+/**
+ * Domain model of an appointment.
+ *
+ * @param id the id of the appointment, generated by {@code IdGenerator}
+ * @param date the date and time of the appointment
+ * @param location the location of the appointment
+ * @param title the title of the appointment
+ * @param description the description of the appointment
+ * @param creatorName the name of the person, that created the appointment
+ * @param createdAt the time the appointment was stored, assigned by the database. {@code null} for
+ *        appointments, that were not read from the database.
+ */
+public record Appointment(
+    UUID id,
+    ZonedDateTime date,
+    String location,
+    String title,
+    String description,
+    String creatorName,
+    ZonedDateTime createdAt) {
+}
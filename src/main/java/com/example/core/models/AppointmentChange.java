@@ -0,0 +1,42 @@
+package com.example.core.models;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+/**
+ * Domain model of a change of an appointment.
+ *
+ * @param id the id of the change. Changes are delivered in commit order, which may differ from the
+ *        order of their ids.
+ * @param type the type of the change
+ * @param appointmentId the id of the changed appointment, {@code null} for {@link Type#RESET}
+ * @param date the date of the changed appointment, {@code null} for {@link Type#RESET}
+ */
+public record AppointmentChange(
+    long id,
+    Type type,
+    UUID appointmentId,
+    ZonedDateTime date) {
+
+    /**
+     * Creates a change, that tells a subscriber to reload the appointments.
+     *
+     * @param id the id of the reset, or of the latest change, that the reload covers
+     * @return the reset
+     */
+    public static AppointmentChange reset(long id) {
+        return new AppointmentChange(id, Type.RESET, null, null);
+    }
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        /**
+         * Changes may have been missed, e.g. the subscriber resumed after a change, that is no
+         * longer known, or the service lost its database connection. The subscriber has to reload
+         * the appointments.
+         */
+        RESET
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.core.models;
+
+/**
+ * Domain model of the location of appointments, e.g. a room.
+ *
+ * @param name the name of the location, as referenced by {@link Appointment#location()}
+ * @param building the building of the location
+ * @param floor the floor of the location within the building
+ * @param capacity the maximum number of persons
+ */
+public record Location(
+    String name,
+    String building,
+    Integer floor,
+    Integer capacity) {
+}
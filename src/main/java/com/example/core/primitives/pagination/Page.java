@@ -0,0 +1,21 @@
+package com.example.core.primitives.pagination;
+
+import java.util.List;
+
+/**
+ * A page of a keyset paginated sequence.
+ *
+ * @param <T> the type of the elements
+ * @param items the elements of this page
+ * @param next the cursor to request the next page with, or {@code null} if this is the last page
+ */
+public record Page<T>(List<T> items, PageCursor next) {
+    /**
+     * Returns whether there might be more elements after this page.
+     *
+     * @return {@code true} if there is a next page
+     */
+    public boolean hasNext() {
+        return next != null;
+    }
+}
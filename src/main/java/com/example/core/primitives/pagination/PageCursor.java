@@ -0,0 +1,14 @@
+package com.example.core.primitives.pagination;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Position within a keyset paginated sequence, ordered by {@code (position, id)}. The next page
+ * starts with the first element strictly after this cursor.
+ *
+ * @param position the ordering timestamp of the last element of the previous page
+ * @param id the id of the last element of the previous page, used as tie breaker
+ */
+public record PageCursor(Instant position, UUID id) {
+}
@@ -0,0 +1,145 @@
+package com.example.core.primitives.results;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import com.example.core.exceptions.ErrorCode;
+import com.example.core.exceptions.ResultEmptyException;
+import com.example.core.exceptions.base.DomainException;
+
+/**
+ * Represents the result of an operation, indicating whether it was successful or not. Instances of
+ * this class contain information about success status and an error message if applicable.
+ *
+ * <p>
+ * Every result is either a {@link Result.Ok}, a {@link Result.Fail} or, for a successful operation
+ * without payload, the shared {@link Empty} instance (see {@link #ok()}). Empty results have no
+ * payload, that could be passed on as {@code null}.
+ * </p>
+ */
+public abstract sealed class ActionResult permits Result, ActionResult.Empty {
+
+    ActionResult() {
+    }
+
+    /**
+     * Returns whether the operation was successful.
+     *
+     * @return {@code true} if the operation was successful, {@code false} otherwise
+     */
+    public abstract boolean isSuccess();
+
+    /**
+     * Returns the error message associated with this result.
+     *
+     * @return the error message, or an empty string if there is no error
+     */
+    public abstract String getMessage();
+
+    /**
+     * Returns the exception associated with this result.
+     *
+     * @return the exception
+     * @throws ResultEmptyException if there is no error associated with this result. The thrown
+     *         exception carries no stack trace.
+     */
+    public abstract DomainException getError() throws ResultEmptyException;
+
+    /**
+     * Returns the value of {@code onSuccess} if the operation was successful, or applies
+     * {@code onFailure} to the error otherwise.
+     *
+     * @param <U> the type of the returned value
+     * @param onSuccess supplies the value for a successful operation
+     * @param onFailure maps the error of a failed operation
+     * @return the value of the invoked branch
+     */
+    public abstract <U> U fold(Supplier<? extends U> onSuccess,
+        Function<? super DomainException, ? extends U> onFailure);
+
+    /**
+     * Returns the shared {@code ActionResult} instance representing a successful operation.
+     *
+     * @return an {@code ActionResult} instance with {@code success} set to {@code true} and no
+     *         error
+     */
+    public static ActionResult ok() {
+        return Empty.INSTANCE;
+    }
+
+    /**
+     * Creates a new {@code ActionResult} instance representing a failed operation.
+     *
+     * @param error the exception associated with the failed operation
+     * @return an {@code ActionResult} instance with {@code success} set to {@code false} and the
+     *         specified error
+     */
+    public static ActionResult error(DomainException error) {
+        return new Result.Fail<>(Objects.requireNonNull(error));
+    }
+
+    public ActionResult toActionResult() {
+        return this;
+    }
+
+    /**
+     * Converts a failed result into a {@code Result} of any payload type. Failed results carry no
+     * payload, so the same instance is returned.
+     *
+     * @param <U> the payload type of the returned result
+     * @return this result as failed {@code Result}
+     * @throws ResultEmptyException if the operation was successful
+     */
+    public abstract <U> Result<U> toFailedResult() throws ResultEmptyException;
+
+    static ResultEmptyException notSuccessful() {
+        return ResultEmptyException.stackless(ErrorCode.DOM_INVALID_STATE,
+            "The operation was not successful.");
+    }
+
+    static ResultEmptyException notFailed() {
+        return ResultEmptyException.stackless(ErrorCode.DOM_INVALID_STATE,
+            "The operation was successful.");
+    }
+
+    static ResultEmptyException errorNotSet() {
+        return ResultEmptyException.stackless(ErrorCode.DOM_INVALID_STATE,
+            "Error property for this Result not set.");
+    }
+
+    /**
+     * A successful result without payload.
+     */
+    public static final class Empty extends ActionResult {
+        private static final Empty INSTANCE = new Empty();
+
+        private Empty() {
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return true;
+        }
+
+        @Override
+        public String getMessage() {
+            return "";
+        }
+
+        @Override
+        public DomainException getError() throws ResultEmptyException {
+            throw errorNotSet();
+        }
+
+        @Override
+        public <U> U fold(Supplier<? extends U> onSuccess,
+            Function<? super DomainException, ? extends U> onFailure) {
+            return onSuccess.get();
+        }
+
+        @Override
+        public <U> Result<U> toFailedResult() throws ResultEmptyException {
+            throw notFailed();
+        }
+    }
+}
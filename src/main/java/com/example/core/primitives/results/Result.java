@@ -0,0 +1,269 @@
+package com.example.core.primitives.results;
+
+import com.example.core.exceptions.ErrorCode;
+import com.example.core.exceptions.ResultEmptyException;
+import com.example.core.exceptions.base.DomainException;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Represents the result of an operation with a payload, indicating whether it was successful or
+ * not. Instances of this class contain information about success status and an error message if
+ * applicable.
+ *
+ * <p>
+ * A result is either {@link Ok} or {@link Fail}, each holding a single field. Misusing a result
+ * (e.g. calling {@link #getOk()} on a failed result) throws a {@link ResultEmptyException} without
+ * stack trace.
+ * </p>
+ *
+ * @param <T> the type of the payload associated with this result
+ */
+public abstract sealed class Result<T> extends ActionResult permits Result.Ok, Result.Fail {
+    private Result() {
+    }
+
+    /**
+     * Returns the payload associated with this result.
+     *
+     * @return the payload
+     * @throws ResultEmptyException if the operation was not successful or the payload is not set
+     */
+    public abstract T getOk() throws ResultEmptyException;
+
+    /**
+     * Returns the payload associated with this result, or {@code other} if the operation was not
+     * successful.
+     *
+     * @param other the value to return for a failed operation
+     * @return the payload or {@code other}
+     */
+    public abstract T orElse(T other);
+
+    /**
+     * Returns the payload associated with this result, or throws the error of a failed operation.
+     *
+     * @return the payload
+     * @throws DomainException the error associated with this result, if the operation was not
+     *         successful
+     */
+    public abstract T orElseThrow() throws DomainException;
+
+    /**
+     * Maps the payload of a successful result. Failed results are returned unchanged.
+     *
+     * @param <U> the type of the mapped payload
+     * @param mapper the function applied to the payload
+     * @return a result with the mapped payload, or this failed result
+     */
+    public abstract <U> Result<U> map(Function<? super T, ? extends U> mapper);
+
+    /**
+     * Maps the payload of a successful result to another result. Failed results are returned
+     * unchanged.
+     *
+     * @param <U> the payload type of the returned result
+     * @param mapper the function applied to the payload
+     * @return the result of {@code mapper}, or this failed result
+     */
+    public abstract <U> Result<U> flatMap(Function<? super T, Result<U>> mapper);
+
+    /**
+     * Applies {@code onOk} to the payload if the operation was successful, or {@code onFail} to the
+     * error otherwise.
+     *
+     * @param <U> the type of the returned value
+     * @param onOk maps the payload of a successful operation
+     * @param onFail maps the error of a failed operation
+     * @return the value of the invoked branch
+     */
+    public abstract <U> U fold(Function<? super T, ? extends U> onOk,
+        Function<? super DomainException, ? extends U> onFail);
+
+    /**
+     * Passes the payload to {@code action} if the operation was successful.
+     *
+     * @param action the action to run with the payload
+     * @return this result
+     */
+    public abstract Result<T> ifOk(Consumer<? super T> action);
+
+    /**
+     * Creates a new {@code Result} instance representing a successful operation with a payload.
+     *
+     * @param <T> the type of the payload
+     * @param payload the payload associated with the successful operation
+     * @return a {@code Result} instance with {@code success} set to {@code true} and the specified
+     *         payload
+     */
+    public static <T> Result<T> ok(T payload) {
+        return new Ok<>(Objects.requireNonNull(payload));
+    }
+
+    /**
+     * Creates a new {@code Result} instance representing a failed operation with an error.
+     *
+     * @param <T> the type of the payload
+     * @param error the exception associated with the failed operation
+     * @return a {@code Result} instance with {@code success} set to {@code false} and the specified
+     *         error
+     */
+    public static <T> Result<T> fail(DomainException error) {
+        return new Fail<>(Objects.requireNonNull(error));
+    }
+
+    /**
+     * A successful result holding its payload.
+     *
+     * @param <T> the type of the payload
+     */
+    public static final class Ok<T> extends Result<T> {
+        private final T payload;
+
+        private Ok(T payload) {
+            this.payload = payload;
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return true;
+        }
+
+        @Override
+        public String getMessage() {
+            return "";
+        }
+
+        @Override
+        public DomainException getError() throws ResultEmptyException {
+            throw errorNotSet();
+        }
+
+        @Override
+        public T getOk() {
+            return payload;
+        }
+
+        @Override
+        public T orElse(T other) {
+            return payload;
+        }
+
+        @Override
+        public T orElseThrow() {
+            return payload;
+        }
+
+        @Override
+        public <U> Result<U> map(Function<? super T, ? extends U> mapper) {
+            return new Ok<>(Objects.requireNonNull(mapper.apply(payload)));
+        }
+
+        @Override
+        public <U> Result<U> flatMap(Function<? super T, Result<U>> mapper) {
+            return Objects.requireNonNull(mapper.apply(payload));
+        }
+
+        @Override
+        public <U> U fold(Function<? super T, ? extends U> onOk,
+            Function<? super DomainException, ? extends U> onFail) {
+            return onOk.apply(payload);
+        }
+
+        @Override
+        public <U> U fold(Supplier<? extends U> onSuccess,
+            Function<? super DomainException, ? extends U> onFailure) {
+            return onSuccess.get();
+        }
+
+        @Override
+        public Result<T> ifOk(Consumer<? super T> action) {
+            action.accept(payload);
+            return this;
+        }
+
+        @Override
+        public <U> Result<U> toFailedResult() throws ResultEmptyException {
+            throw notFailed();
+        }
+    }
+
+    /**
+     * A failed result holding its error.
+     *
+     * @param <T> the type of the payload, that this result does not have
+     */
+    public static final class Fail<T> extends Result<T> {
+        private final DomainException error;
+
+        Fail(DomainException error) {
+            this.error = error;
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return false;
+        }
+
+        @Override
+        public String getMessage() {
+            return error.getMessage();
+        }
+
+        @Override
+        public DomainException getError() {
+            return error;
+        }
+
+        @Override
+        public T getOk() throws ResultEmptyException {
+            throw notSuccessful();
+        }
+
+        @Override
+        public T orElse(T other) {
+            return other;
+        }
+
+        @Override
+        public T orElseThrow() throws DomainException {
+            throw error;
+        }
+
+        @Override
+        public <U> Result<U> map(Function<? super T, ? extends U> mapper) {
+            return toFailedResult();
+        }
+
+        @Override
+        public <U> Result<U> flatMap(Function<? super T, Result<U>> mapper) {
+            return toFailedResult();
+        }
+
+        @Override
+        public <U> U fold(Function<? super T, ? extends U> onOk,
+            Function<? super DomainException, ? extends U> onFail) {
+            return onFail.apply(error);
+        }
+
+        @Override
+        public <U> U fold(Supplier<? extends U> onSuccess,
+            Function<? super DomainException, ? extends U> onFailure) {
+            return onFailure.apply(error);
+        }
+
+        @Override
+        public Result<T> ifOk(Consumer<? super T> action) {
+            return this;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <U> Result<U> toFailedResult() {
+            return (Result<U>) this;
+        }
+    }
+}
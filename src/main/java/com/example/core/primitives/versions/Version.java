@@ -0,0 +1,32 @@
+package com.example.core.primitives.versions;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Version of a stored appointment or of a page of appointments, used for conditional requests.
+ * Appointments are never updated, so their creation time identifies the state of a single
+ * appointment. The number of appointments additionally detects deletions within a page, and the id
+ * of its last appointment detects appointments, that moved into a full page after a deletion.
+ *
+ * @param lastModified the latest creation time, or {@link Instant#EPOCH} for an empty page
+ * @param count the number of appointments, {@code 1} for a single appointment
+ * @param last the id of the last appointment of a page, {@code null} for a single appointment and
+ *        an empty page
+ */
+public record Version(Instant lastModified, long count, UUID last) {
+    /**
+     * Version of an empty page of appointments.
+     */
+    public static final Version EMPTY = new Version(Instant.EPOCH, 0, null);
+
+    /**
+     * Creates the version of a single appointment.
+     *
+     * @param createdAt the creation time of the appointment
+     * @return the version
+     */
+    public static Version of(Instant createdAt) {
+        return new Version(createdAt, 1, null);
+    }
+}
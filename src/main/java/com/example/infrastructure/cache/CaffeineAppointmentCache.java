@@ -0,0 +1,165 @@
+package com.example.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import com.example.business.appointments.AppointmentCache;
+import com.example.core.exceptions.NotFoundException;
+import com.example.core.models.Appointment;
+import com.example.core.primitives.results.Result;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * {@link AppointmentCache} based on Caffeine, bounded in size and evicting entries after a fixed
+ * time to live.
+ *
+ * <p>
+ * The cache holds futures: the first caller of a missing id registers an incomplete future and
+ * loads the appointment outside of the cache, concurrent callers wait for the same future. Loading
+ * therefore never blocks lookups of other ids.
+ * </p>
+ *
+ * <p>
+ * Hits, misses, evictions and the size are published as {@code cache.*} metrics with the tag
+ * {@code cache=appointments}.
+ * </p>
+ */
+@ApplicationScoped
+public class CaffeineAppointmentCache implements AppointmentCache {
+    private final AsyncCache<UUID, Result<Appointment>> cache;
+
+    @Inject
+    public CaffeineAppointmentCache(
+        @ConfigProperty(name = "appointment.cache.maximum-size", defaultValue = "10000")
+        long maximumSize,
+        @ConfigProperty(name = "appointment.cache.expire-after-write", defaultValue = "PT30S")
+        Duration expireAfterWrite,
+        MeterRegistry registry) {
+        this.cache = CaffeineCacheMetrics.monitor(registry, Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .<UUID, Result<Appointment>>buildAsync(), "appointments");
+    }
+
+    @Override
+    public Result<Appointment> get(UUID id, Function<UUID, Result<Appointment>> loader) {
+        var pending = new CompletableFuture<Result<Appointment>>();
+        var future = cache.get(id, (key, executor) -> pending);
+        if (future == pending) {
+            load(id, loader, pending);
+        }
+        return future.join();
+    }
+
+    private void load(UUID id, Function<UUID, Result<Appointment>> loader,
+        CompletableFuture<Result<Appointment>> pending) {
+        try {
+            var result = loader.apply(id);
+            if (!result.isSuccess()) {
+                // Failures are passed to waiting callers, but are not cached
+                cache.asMap().remove(id, pending);
+            }
+            pending.complete(result);
+        } catch (RuntimeException e) {
+            cache.asMap().remove(id, pending);
+            pending.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Result<List<Appointment>> getAll(Collection<UUID> ids,
+        Function<Collection<UUID>, Result<List<Appointment>>> loader) {
+        var futures = new ArrayList<CompletableFuture<Result<Appointment>>>(ids.size());
+        var pending = new HashMap<UUID, CompletableFuture<Result<Appointment>>>();
+        for (var id : new HashSet<>(ids)) {
+            var created = new CompletableFuture<Result<Appointment>>();
+            var future = cache.get(id, (key, executor) -> created);
+            if (future == created) {
+                pending.put(id, created);
+            }
+            futures.add(future);
+        }
+        if (!pending.isEmpty()) {
+            loadAll(pending, loader);
+        }
+
+        var appointments = new ArrayList<Appointment>(futures.size());
+        for (var future : futures) {
+            var result = future.join();
+            if (result.isSuccess()) {
+                appointments.add(result.getOk());
+            } else if (!(result.getError() instanceof NotFoundException)) {
+                return result.toFailedResult();
+            }
+        }
+        return Result.ok(appointments);
+    }
+
+    private void loadAll(Map<UUID, CompletableFuture<Result<Appointment>>> pending,
+        Function<Collection<UUID>, Result<List<Appointment>>> loader) {
+        try {
+            var result = loader.apply(List.copyOf(pending.keySet()));
+            if (!result.isSuccess()) {
+                pending.forEach((id, future) -> {
+                    cache.asMap().remove(id, future);
+                    future.complete(result.toFailedResult());
+                });
+                return;
+            }
+            for (var appointment : result.getOk()) {
+                var future = pending.remove(appointment.id());
+                if (future != null) {
+                    future.complete(Result.ok(appointment));
+                }
+            }
+            // The remaining ids do not exist
+            pending.forEach((id, future) -> {
+                cache.asMap().remove(id, future);
+                future.complete(Result.fail(NotFoundException.appointment(id)));
+            });
+        } catch (RuntimeException e) {
+            pending.forEach((id, future) -> {
+                cache.asMap().remove(id, future);
+                future.completeExceptionally(e);
+            });
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<Appointment> getIfPresent(UUID id) {
+        // Read through the map view, so that the statistics only count regular lookups
+        var future = cache.asMap().get(id);
+        if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(future.join().orElse(null));
+    }
+
+    @Override
+    public void invalidate(Collection<UUID> ids) {
+        cache.synchronous().invalidateAll(ids);
+    }
+
+    @Override
+    public Statistics getStatistics() {
+        var stats = cache.synchronous().stats();
+        return new Statistics(stats.hitCount(), stats.missCount(), stats.evictionCount());
+    }
+}
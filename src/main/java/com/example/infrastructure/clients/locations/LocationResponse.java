@@ -0,0 +1,19 @@
+package com.example.infrastructure.clients.locations;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * Location, as returned by {@code GET /locations/{name}} of the location service.
+ *
+ * @param name the name of the location
+ * @param building the building of the location
+ * @param floor the floor of the location within the building
+ * @param capacity the maximum number of persons
+ */
+@RegisterForReflection
+public record LocationResponse(
+    String name,
+    String building,
+    Integer floor,
+    Integer capacity) {
+}
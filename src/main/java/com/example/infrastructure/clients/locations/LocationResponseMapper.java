@@ -0,0 +1,13 @@
+package com.example.infrastructure.clients.locations;
+
+import com.example.core.models.Location;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+
+/**
+ * Maps the responses of the location service to the domain model {@link Location}.
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.JAKARTA_CDI)
+public interface LocationResponseMapper {
+    Location toLocation(LocationResponse locationResponse);
+}
@@ -0,0 +1,99 @@
+package com.example.infrastructure.clients.locations;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import com.example.business.locations.LocationService;
+import com.example.core.exceptions.ErrorCode;
+import com.example.core.exceptions.InfrastructureException;
+import com.example.core.exceptions.ServiceUnavailableException;
+import com.example.core.exceptions.base.DomainException;
+import com.example.core.models.Location;
+import com.example.core.primitives.results.Result;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+import org.eclipse.microprofile.faulttolerance.exceptions.CircuitBreakerOpenException;
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+
+/**
+ * {@link LocationService} based on the {@link LocationServiceClient}.
+ *
+ * <p>
+ * Locations rarely change, so they are cached for a short time
+ * ({@code appointment.locations.cache.expire-after-write}). The cache holds the futures of the
+ * calls, so concurrent lookups of the same location share a single call. Failed calls are passed
+ * to all waiting callers and then removed from the cache. Timeouts and rejected calls are mapped
+ * to a {@link ServiceUnavailableException}, error responses by the
+ * {@link LocationServiceExceptionMapper}, everything else to an {@link InfrastructureException}.
+ * </p>
+ */
+@Slf4j
+@ApplicationScoped
+public class LocationServiceAdapter implements LocationService {
+    private final LocationServiceClient locationServiceClient;
+
+    private final LocationResponseMapper locationResponseMapper;
+
+    private final AsyncCache<String, Result<Location>> cache;
+
+    @Inject
+    public LocationServiceAdapter(
+        @RestClient LocationServiceClient locationServiceClient,
+        LocationResponseMapper locationResponseMapper,
+        @ConfigProperty(name = "appointment.locations.cache.maximum-size", defaultValue = "1000")
+        long maximumSize,
+        @ConfigProperty(name = "appointment.locations.cache.expire-after-write",
+            defaultValue = "PT10S")
+        Duration expireAfterWrite) {
+        this.locationServiceClient = locationServiceClient;
+        this.locationResponseMapper = locationResponseMapper;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .buildAsync();
+    }
+
+    @Override
+    public Uni<Result<Location>> getLocation(String name) {
+        return Uni.createFrom().completionStage(() -> {
+            var future = cache.get(name, (key, executor) -> fetch(key));
+            return future.thenApply(result -> {
+                if (!result.isSuccess()) {
+                    // Failures are passed to waiting callers, but are not cached
+                    cache.asMap().remove(name, future);
+                }
+                return result;
+            });
+        });
+    }
+
+    private CompletableFuture<Result<Location>> fetch(String name) {
+        return Uni.createFrom().deferred(() -> locationServiceClient.getLocation(name))
+            .map(locationResponse -> Result.ok(locationResponseMapper.toLocation(locationResponse)))
+            .onFailure().recoverWithItem(failure -> Result.fail(toDomainException(name, failure)))
+            .subscribeAsCompletionStage();
+    }
+
+    static DomainException toDomainException(String name, Throwable failure) {
+        return switch (failure) {
+            case DomainException e -> e;
+            case TimeoutException e -> new ServiceUnavailableException(ErrorCode.INF_API_TIMEOUT,
+                "The location service did not answer in time.");
+            case CircuitBreakerOpenException e -> new ServiceUnavailableException(
+                ErrorCode.INF_API_UNAVAILABLE, "The location service is unavailable.");
+            case BulkheadException e -> new ServiceUnavailableException(
+                ErrorCode.INF_API_UNAVAILABLE, "Too many concurrent calls of the location service.");
+            default -> {
+                LOGGER.error("Failed to get location '{}'.", name, failure);
+                yield new InfrastructureException(ErrorCode.INF_API_OPERATION_FAILED,
+                    "Failed to get location '" + name + "'.", failure);
+            }
+        };
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.infrastructure.clients.locations;
+
+import com.example.core.exceptions.NotFoundException;
+import io.smallrye.faulttolerance.api.AsynchronousNonBlocking;
+import io.smallrye.mutiny.Uni;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import org.eclipse.microprofile.faulttolerance.Bulkhead;
+import org.eclipse.microprofile.faulttolerance.CircuitBreaker;
+import org.eclipse.microprofile.faulttolerance.Timeout;
+import org.eclipse.microprofile.rest.client.annotation.RegisterProvider;
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+
+/**
+ * REST client of the location service ({@code quarkus.rest-client.location-service.*}).
+ *
+ * <p>
+ * Every call is guarded, so that a slow or failing location service cannot exhaust the resources
+ * of this service:
+ * <ul>
+ * <li>{@link Timeout} - a call fails after 250 ms, independent of the read timeout of the
+ * connection.</li>
+ * <li>{@link Bulkhead} - at most 32 concurrent calls, another 64 wait, further calls are rejected
+ * immediately.</li>
+ * <li>{@link CircuitBreaker} - if half of the last 20 calls failed, calls are rejected immediately
+ * for 5 s. Missing locations are not counted as failures.</li>
+ * </ul>
+ * The values can be overridden with MicroProfile Fault Tolerance properties, e.g.
+ * {@code com.example.infrastructure.clients.locations.LocationServiceClient/getLocation/Timeout/value}.
+ * </p>
+ */
+@RegisterRestClient(configKey = "location-service")
+@RegisterProvider(LocationServiceExceptionMapper.class)
+@Path("/locations")
+@Produces(MediaType.APPLICATION_JSON)
+public interface LocationServiceClient {
+    @GET
+    @Path("/{name}")
+    @AsynchronousNonBlocking
+    @Timeout(250)
+    @Bulkhead(value = 32, waitingTaskQueue = 64)
+    @CircuitBreaker(requestVolumeThreshold = 20, failureRatio = 0.5, delay = 5000,
+        successThreshold = 2, skipOn = NotFoundException.class)
+    Uni<LocationResponse> getLocation(@PathParam("name") String name);
+}
@@ -0,0 +1,34 @@
+package com.example.infrastructure.clients.locations;
+
+import com.example.core.exceptions.ErrorCode;
+import com.example.core.exceptions.InfrastructureException;
+import com.example.core.exceptions.NotFoundException;
+import com.example.core.exceptions.ServiceUnavailableException;
+import com.example.core.exceptions.base.DomainException;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.Status;
+import org.eclipse.microprofile.rest.client.ext.ResponseExceptionMapper;
+
+/**
+ * Maps error responses of the location service to {@link DomainException}s. A missing location is
+ * an expected {@link NotFoundException}, that is not counted as failure by the circuit breaker of
+ * {@link LocationServiceClient}.
+ */
+public class LocationServiceExceptionMapper implements ResponseExceptionMapper<DomainException> {
+    @Override
+    public DomainException toThrowable(Response response) {
+        var status = response.getStatus();
+        if (status == Status.NOT_FOUND.getStatusCode()) {
+            return new NotFoundException(ErrorCode.INF_API_NOTFOUND, "The location was not found.");
+        }
+        if (status == Status.SERVICE_UNAVAILABLE.getStatusCode()
+            || status == Status.TOO_MANY_REQUESTS.getStatusCode()) {
+            return new ServiceUnavailableException(ErrorCode.INF_API_UNAVAILABLE,
+                "The location service is unavailable (" + status + ").");
+        }
+        return new InfrastructureException(ErrorCode.INF_API_OPERATION_FAILED,
+            "The location service failed with status " + status + ".",
+            new WebApplicationException(response));
+    }
+}
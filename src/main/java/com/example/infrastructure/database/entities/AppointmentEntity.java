@@ -0,0 +1,50 @@
+package com.example.infrastructure.database.entities;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Database model of an appointment, stored in {@code public.appointment}.
+ */
+@Entity
+@Table(name = "appointment", schema = "public")
+@Getter
+@Setter
+@NoArgsConstructor
+public class AppointmentEntity {
+    /**
+     * Time-ordered id (UUID version 7), assigned by the application before insert.
+     */
+    @Id
+    @Column(name = "id")
+    private UUID id;
+
+    @Column(name = "date", nullable = false)
+    private ZonedDateTime date;
+
+    @Column(name = "location")
+    private String location;
+
+    @Column(name = "title")
+    private String title;
+
+    @Column(name = "description")
+    private String description;
+
+    @Column(name = "creator_name")
+    private String creatorName;
+
+    /**
+     * Set by the database on insert and by the trigger {@code trg_update_last_modified_date} on
+     * update.
+     */
+    @Column(name = "created_at", insertable = false, updatable = false)
+    private ZonedDateTime createdAt;
+}
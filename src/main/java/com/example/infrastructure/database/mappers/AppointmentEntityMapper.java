@@ -0,0 +1,19 @@
+package com.example.infrastructure.database.mappers;
+
+import com.example.core.models.Appointment;
+import com.example.infrastructure.database.entities.AppointmentEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+
+/**
+ * Maps between the domain model {@link Appointment} and the database model
+ * {@link AppointmentEntity}.
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.JAKARTA_CDI)
+public interface AppointmentEntityMapper {
+    Appointment toAppointment(AppointmentEntity appointmentEntity);
+
+    @Mapping(target = "createdAt", ignore = true)
+    AppointmentEntity toAppointmentEntity(Appointment appointment);
+}
@@ -0,0 +1,32 @@
+package com.example.infrastructure.database.mappers;
+
+import java.time.ZonedDateTime;
+import com.example.core.models.Appointment;
+import io.vertx.mutiny.sqlclient.Row;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Maps rows of {@code public.appointment}, read with the reactive database client, to the domain
+ * model {@link Appointment}.
+ */
+@ApplicationScoped
+public class AppointmentRowMapper {
+    public Appointment toAppointment(Row row) {
+        var date = row.getOffsetDateTime("date");
+        return new Appointment(
+            row.getUUID("id"),
+            date == null ? null : date.toZonedDateTime(),
+            row.getString("location"),
+            row.getString("title"),
+            row.getString("description"),
+            row.getString("creator_name"),
+            getCreatedAt(row));
+    }
+
+    /**
+     * Gets the creation time of the row, used for keyset pagination and as version.
+     */
+    public ZonedDateTime getCreatedAt(Row row) {
+        return row.getOffsetDateTime("created_at").toZonedDateTime();
+    }
+}
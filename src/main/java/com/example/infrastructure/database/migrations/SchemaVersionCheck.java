@@ -0,0 +1,72 @@
+package com.example.infrastructure.database.migrations;
+
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.health.api.Wellness;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.flywaydb.core.Flyway;
+
+/**
+ * Checks, that the database schema is up to date, if the migrations do not run at startup.
+ *
+ * <p>
+ * In production, the migrations run as a one-shot job before the rollout (see README). The service
+ * then only compares the applied schema version with the bundled migrations. The check runs on a
+ * worker thread after startup and is reported as a wellness check ({@code /q/health/well}), so it
+ * neither delays the startup nor the readiness of the service.
+ * </p>
+ */
+@Slf4j
+@ApplicationScoped
+@Wellness
+public class SchemaVersionCheck implements HealthCheck {
+    private static final String NAME = "Database schema version";
+
+    @Inject
+    Flyway flyway;
+
+    @ConfigProperty(name = "quarkus.flyway.migrate-at-start", defaultValue = "false")
+    boolean migrateAtStart;
+
+    private volatile HealthCheckResponse response =
+        HealthCheckResponse.named(NAME).down().withData("state", "checking").build();
+
+    void onStart(@Observes StartupEvent event) {
+        if (migrateAtStart) {
+            response = HealthCheckResponse.named(NAME).up().withData("state", "migrated at start").build();
+            return;
+        }
+        Infrastructure.getDefaultWorkerPool().execute(this::check);
+    }
+
+    @Override
+    public HealthCheckResponse call() {
+        return response;
+    }
+
+    private void check() {
+        try {
+            var info = flyway.info();
+            var current = info.current() == null ? "none" : info.current().getVersion().getVersion();
+            var pending = info.pending().length;
+            if (pending > 0) {
+                LOGGER.warn("Database schema version {} is outdated, {} migrations are pending.",
+                    current, pending);
+            }
+            response = HealthCheckResponse.named(NAME)
+                .status(pending == 0)
+                .withData("version", current)
+                .withData("pending", pending)
+                .build();
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to check the database schema version.", e);
+            response = HealthCheckResponse.named(NAME).down().withData("state", "failed").build();
+        }
+    }
+}
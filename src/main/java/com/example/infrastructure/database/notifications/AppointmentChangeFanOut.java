@@ -0,0 +1,148 @@
+package com.example.infrastructure.database.notifications;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import com.example.core.models.AppointmentChange;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.operators.multi.processors.UnicastProcessor;
+import io.smallrye.mutiny.subscription.BackPressureFailure;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fans the appointment changes of the database listener out to any number of subscribers.
+ *
+ * <p>
+ * Each subscriber has its own bounded buffer. A subscriber, that falls behind by more than the
+ * buffer size, is completed instead of slowing down the others, and resumes with the id of its
+ * last change. The latest changes are kept for resuming subscribers; a subscriber, that resumes
+ * after a change, that is no longer kept, gets a {@link AppointmentChange.Type#RESET}.
+ * </p>
+ *
+ * <p>
+ * The resets of {@link #reset()} have negative ids, that never equal the id of a change: a random
+ * epoch of the fan-out in the upper bits, followed by a generation. So a subscriber, that resumes
+ * with the id of the change before a reset, gets the reset again, and a subscriber, that resumes
+ * with the id of a reset of a previous process, gets a reset as well.
+ * </p>
+ */
+@Slf4j
+class AppointmentChangeFanOut {
+    private final int replaySize;
+
+    private final int bufferSize;
+
+    /**
+     * The latest changes in delivery order, guarded by {@code this}. Never empty, it starts with
+     * a reset.
+     */
+    private final Deque<AppointmentChange> replay = new ArrayDeque<>();
+
+    private final Set<UnicastProcessor<AppointmentChange>> subscribers =
+        ConcurrentHashMap.newKeySet();
+
+    private final Counter disconnected;
+
+    private final long epoch = ThreadLocalRandom.current().nextInt(1, Integer.MAX_VALUE);
+
+    /**
+     * The generation of the latest reset, guarded by {@code this}.
+     */
+    private long generation;
+
+    AppointmentChangeFanOut(int replaySize, int bufferSize, MeterRegistry registry) {
+        this.replaySize = replaySize;
+        this.bufferSize = bufferSize;
+        this.replay.add(nextReset());
+        Gauge.builder("appointment.changes.subscribers", subscribers, Set::size)
+            .description("Number of subscribers of the appointment changes")
+            .register(registry);
+        this.disconnected = Counter.builder("appointment.changes.disconnected")
+            .description("Subscribers of the appointment changes, that fell behind")
+            .register(registry);
+    }
+
+    /**
+     * Delivers a change to all subscribers.
+     */
+    synchronized void publish(AppointmentChange change) {
+        replay.addLast(change);
+        while (replay.size() > replaySize) {
+            replay.removeFirst();
+        }
+        for (var subscriber : subscribers) {
+            subscriber.onNext(change);
+        }
+    }
+
+    /**
+     * Forgets the kept changes and tells all subscribers to reload, e.g. after the listener lost
+     * its connection and changes may have been missed.
+     */
+    synchronized void reset() {
+        replay.clear();
+        publish(nextReset());
+    }
+
+    /**
+     * Completes all subscribers.
+     */
+    synchronized void complete() {
+        for (var subscriber : subscribers) {
+            subscriber.onComplete();
+        }
+    }
+
+    /**
+     * Subscribes to the changes.
+     *
+     * @param lastEventId the id of the last change, that the subscriber received, or {@code null}
+     * @return the missed changes followed by the live changes
+     */
+    Multi<AppointmentChange> subscribe(Long lastEventId) {
+        return Multi.createFrom().deferred(() -> register(lastEventId))
+            .onFailure(BackPressureFailure.class).invoke(failure -> {
+                disconnected.increment();
+                LOGGER.debug("Completed a subscriber of the changes, that fell behind.");
+            })
+            .onFailure(BackPressureFailure.class).recoverWithCompletion();
+    }
+
+    private synchronized Multi<AppointmentChange> register(Long lastEventId) {
+        var missed = lastEventId == null ? List.<AppointmentChange>of() : missedAfter(lastEventId);
+        var queue = new LinkedBlockingQueue<AppointmentChange>(bufferSize + missed.size());
+        var processor = UnicastProcessor.create(queue, null);
+        missed.forEach(processor::onNext);
+        subscribers.add(processor);
+        return processor.onTermination().invoke(() -> subscribers.remove(processor));
+    }
+
+    private AppointmentChange nextReset() {
+        return AppointmentChange.reset(-((epoch << 32) | ++generation));
+    }
+
+    /**
+     * Gets the changes after the last change of a subscriber, or a reset, if it is not kept. The
+     * reload after that reset covers all kept changes, so it carries the id of the latest one.
+     */
+    private List<AppointmentChange> missedAfter(long lastEventId) {
+        var missed = new ArrayList<AppointmentChange>();
+        for (Iterator<AppointmentChange> it = replay.descendingIterator(); it.hasNext();) {
+            var change = it.next();
+            if (change.id() == lastEventId) {
+                return missed.reversed();
+            }
+            missed.add(change);
+        }
+        return List.of(AppointmentChange.reset(replay.getLast().id()));
+    }
+}
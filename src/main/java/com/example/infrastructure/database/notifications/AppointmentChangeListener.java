@@ -0,0 +1,165 @@
+package com.example.infrastructure.database.notifications;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import com.example.business.appointments.AppointmentChangeFeed;
+import com.example.core.models.AppointmentChange;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.mutiny.Multi;
+import io.vertx.core.json.JsonObject;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.pgclient.pubsub.PgSubscriber;
+import io.vertx.pgclient.PgConnectOptions;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * {@link AppointmentChangeFeed} based on PostgreSQL {@code LISTEN/NOTIFY}.
+ *
+ * <p>
+ * The triggers of {@code public.appointment} notify the channel {@value #CHANNEL} on every insert,
+ * update and delete. The service listens with a single dedicated connection, outside of the
+ * connection pools, and fans the changes out to all subscribers (see
+ * {@link AppointmentChangeFanOut}), so subscribers do not add load to the database. If the
+ * connection is lost, it is reopened with a backoff and the subscribers get a
+ * {@link AppointmentChange.Type#RESET}, since changes may have been missed in between.
+ * </p>
+ */
+@Slf4j
+@ApplicationScoped
+public class AppointmentChangeListener implements AppointmentChangeFeed {
+    static final String CHANNEL = "appointment_changes";
+
+    private static final long MIN_BACKOFF_MILLIS = 100;
+
+    private static final long MAX_BACKOFF_MILLIS = 10_000;
+
+    private final Vertx vertx;
+
+    private final boolean enabled;
+
+    private final Optional<String> reactiveUrl;
+
+    private final Optional<String> jdbcUrl;
+
+    private final Optional<String> username;
+
+    private final Optional<String> password;
+
+    private final AppointmentChangeFanOut fanOut;
+
+    private volatile PgSubscriber subscriber;
+
+    @Inject
+    public AppointmentChangeListener(
+        Vertx vertx,
+        MeterRegistry registry,
+        @ConfigProperty(name = "appointment.changes.enabled", defaultValue = "true")
+        boolean enabled,
+        @ConfigProperty(name = "appointment.changes.replay-size", defaultValue = "1000")
+        int replaySize,
+        @ConfigProperty(name = "appointment.changes.subscriber-buffer-size", defaultValue = "256")
+        int subscriberBufferSize,
+        @ConfigProperty(name = "quarkus.datasource.reactive.url") Optional<String> reactiveUrl,
+        @ConfigProperty(name = "quarkus.datasource.jdbc.url") Optional<String> jdbcUrl,
+        @ConfigProperty(name = "quarkus.datasource.username") Optional<String> username,
+        @ConfigProperty(name = "quarkus.datasource.password") Optional<String> password) {
+        this.vertx = vertx;
+        this.enabled = enabled;
+        this.reactiveUrl = reactiveUrl;
+        this.jdbcUrl = jdbcUrl;
+        this.username = username;
+        this.password = password;
+        this.fanOut = new AppointmentChangeFanOut(replaySize, subscriberBufferSize, registry);
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (!enabled) {
+            return;
+        }
+        subscriber = PgSubscriber.subscriber(vertx, connectOptions())
+            .reconnectPolicy(AppointmentChangeListener::backoff);
+        subscriber.channel(CHANNEL)
+            .handler(this::onNotification)
+            // Called again after every reconnect
+            .subscribeHandler(fanOut::reset);
+        subscriber.connect()
+            .onFailure().invoke(failure ->
+                LOGGER.warn("Failed to listen to the appointment changes, retrying.", failure))
+            .onFailure().retry()
+            .withBackOff(
+                Duration.ofMillis(MIN_BACKOFF_MILLIS), Duration.ofMillis(MAX_BACKOFF_MILLIS))
+            .indefinitely()
+            .subscribe().with(
+                ignored -> LOGGER.info("Listening to the appointment changes."),
+                failure -> LOGGER.error("Failed to listen to the appointment changes.", failure));
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        fanOut.complete();
+        if (subscriber != null) {
+            subscriber.closeAndAwait();
+        }
+    }
+
+    @Override
+    public Multi<AppointmentChange> getChanges(Long lastEventId) {
+        return fanOut.subscribe(lastEventId);
+    }
+
+    void onNotification(String payload) {
+        AppointmentChange change;
+        try {
+            change = toAppointmentChange(new JsonObject(payload));
+        } catch (RuntimeException e) {
+            LOGGER.error("Ignored the invalid appointment change {}.", payload, e);
+            return;
+        }
+        fanOut.publish(change);
+    }
+
+    static AppointmentChange toAppointmentChange(JsonObject json) {
+        var type = switch (json.getString("operation")) {
+            case "INSERT" -> AppointmentChange.Type.CREATED;
+            case "UPDATE" -> AppointmentChange.Type.UPDATED;
+            case "DELETE" -> AppointmentChange.Type.DELETED;
+            default -> throw new IllegalArgumentException(
+                "Unknown operation " + json.getString("operation"));
+        };
+        var date = json.getString("date");
+        return new AppointmentChange(
+            json.getLong("id"),
+            type,
+            UUID.fromString(json.getString("appointmentId")),
+            date == null ? null : ZonedDateTime.parse(date));
+    }
+
+    /**
+     * The connection options of the listener, taken from the datasource. The reactive URL is
+     * preferred, the JDBC URL is used, if the reactive client is not configured.
+     */
+    private PgConnectOptions connectOptions() {
+        var uri = reactiveUrl
+            .map(url -> url.replaceFirst("^vertx-reactive:", ""))
+            .or(() -> jdbcUrl.map(url -> url.replaceFirst("^jdbc:", "").replaceFirst("\\?.*$", "")))
+            .orElseThrow(() -> new IllegalStateException("The datasource URL is not configured"));
+        var options = PgConnectOptions.fromUri(uri);
+        username.ifPresent(options::setUser);
+        password.ifPresent(options::setPassword);
+        return options;
+    }
+
+    /**
+     * Reconnects indefinitely, doubling the delay up to {@value #MAX_BACKOFF_MILLIS}ms.
+     */
+    private static Long backoff(int retries) {
+        return Math.min(MIN_BACKOFF_MILLIS << Math.min(retries, 16), MAX_BACKOFF_MILLIS);
+    }
+}
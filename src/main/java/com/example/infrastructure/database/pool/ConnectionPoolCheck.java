@@ -0,0 +1,59 @@
+package com.example.infrastructure.database.pool;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import io.agroal.api.AgroalDataSource;
+import io.smallrye.health.api.Wellness;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+
+/**
+ * Warns, when the JDBC connection pool is saturated: threads are waiting for a connection or the
+ * share of active connections exceeds {@code appointment.datasource.saturation-threshold}.
+ *
+ * <p>
+ * A saturated pool is reported as a wellness check ({@code /q/health/well}) and logged once per
+ * saturation. It does not affect the readiness, because taking a pod out of the load balancer would
+ * only move its load to the remaining pods. The pool metrics are exposed at {@code /q/metrics}
+ * ({@code agroal_*}).
+ * </p>
+ */
+@Slf4j
+@ApplicationScoped
+@Wellness
+public class ConnectionPoolCheck implements HealthCheck {
+    private static final String NAME = "Database connection pool";
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @ConfigProperty(name = "appointment.datasource.saturation-threshold", defaultValue = "0.9")
+    double saturationThreshold;
+
+    private final AtomicBoolean saturated = new AtomicBoolean();
+
+    @Override
+    public HealthCheckResponse call() {
+        var metrics = dataSource.getMetrics();
+        var maxSize = dataSource.getConfiguration().connectionPoolConfiguration().maxSize();
+        var active = metrics.activeCount();
+        var awaiting = metrics.awaitingCount();
+
+        var isSaturated = awaiting > 0 || active >= maxSize * saturationThreshold;
+        if (saturated.compareAndSet(!isSaturated, isSaturated) && isSaturated) {
+            LOGGER.warn("Database connection pool is saturated: {} of {} connections active, {} threads"
+                + " awaiting a connection.", active, maxSize, awaiting);
+        }
+        return HealthCheckResponse.named(NAME)
+            .status(!isSaturated)
+            .withData("active", active)
+            .withData("available", metrics.availableCount())
+            .withData("awaiting", awaiting)
+            .withData("maxSize", maxSize)
+            .withData("maxUsed", metrics.maxUsedCount())
+            .build();
+    }
+}
@@ -0,0 +1,297 @@
+package com.example.infrastructure.database.repositories;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import com.example.business.appointments.AppointmentRepository;
+import com.example.core.exceptions.ErrorCode;
+import com.example.core.exceptions.InfrastructureException;
+import com.example.core.exceptions.NotFoundException;
+import com.example.core.models.Appointment;
+import com.example.core.primitives.pagination.Page;
+import com.example.core.primitives.pagination.PageCursor;
+import com.example.core.primitives.results.Result;
+import com.example.core.primitives.versions.Version;
+import com.example.infrastructure.database.entities.AppointmentEntity;
+import com.example.infrastructure.database.mappers.AppointmentEntityMapper;
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+
+/**
+ * Stores appointments in the table {@code public.appointment}.
+ *
+ * <p>
+ * Multiple ids are bound as a single array parameter ({@code id = ANY(:ids)}), so batch operations
+ * need exactly one round trip and one prepared statement, regardless of the number of ids.
+ * </p>
+ */
+@Slf4j
+@ApplicationScoped
+public class AppointmentDatabaseRepository
+    implements AppointmentRepository, PanacheRepositoryBase<AppointmentEntity, UUID> {
+
+    private static final String SELECT_BY_IDS =
+        "SELECT * FROM public.appointment WHERE id = ANY(:ids)";
+
+    private static final String DELETE_BY_IDS =
+        "DELETE FROM public.appointment WHERE id = ANY(:ids) RETURNING id";
+
+    private static final String FIRST_PAGE_BY_CREATION =
+        "FROM AppointmentEntity a ORDER BY a.createdAt, a.id";
+
+    private static final String NEXT_PAGE_BY_CREATION = "FROM AppointmentEntity a"
+        + " WHERE (a.createdAt, a.id) > (:createdAt, :id) ORDER BY a.createdAt, a.id";
+
+    /**
+     * Range query on the index {@code idx_appointment_date_id}. The plan is verified with EXPLAIN
+     * in {@code AppointmentDatabaseRepositoryTest}.
+     */
+    static final String FIRST_PAGE_BY_DATE = "SELECT * FROM public.appointment"
+        + " WHERE date >= :from AND date < :to ORDER BY date, id LIMIT :limit";
+
+    static final String NEXT_PAGE_BY_DATE = "SELECT * FROM public.appointment"
+        + " WHERE date >= :from AND date < :to AND (date, id) > (:date, :id)"
+        + " ORDER BY date, id LIMIT :limit";
+
+    private static final String SELECT_VERSION_BY_ID =
+        "SELECT a.createdAt FROM AppointmentEntity a WHERE a.id = :id";
+
+    /**
+     * Aggregates a page within the database, so only its version is returned, not its
+     * appointments.
+     */
+    private static final String SELECT_PAGE_VERSION =
+        "SELECT max(created_at), count(*), (array_agg(id ORDER BY date DESC, id DESC))[1] FROM (";
+
+    static final String FIRST_PAGE_VERSION_BY_DATE = SELECT_PAGE_VERSION + FIRST_PAGE_BY_DATE
+        + ") page";
+
+    static final String NEXT_PAGE_VERSION_BY_DATE = SELECT_PAGE_VERSION + NEXT_PAGE_BY_DATE
+        + ") page";
+
+    @Inject
+    AppointmentEntityMapper appointmentEntityMapper;
+
+    @Override
+    public Result<Appointment> createAppointment(Appointment appointment) {
+        try {
+            // The id is assigned, so persisting needs no round trip for a sequence value
+            QuarkusTransaction.joiningExisting().run(
+                () -> persist(appointmentEntityMapper.toAppointmentEntity(appointment)));
+            return Result.ok(appointment);
+        } catch (Exception e) {
+            LOGGER.error("Failed to create appointment '{}'.", appointment.id(), e);
+            return Result.fail(new InfrastructureException(DatabaseErrors.writeErrorCode(e),
+                "Failed to create appointment.", e));
+        }
+    }
+
+    /**
+     * Persists all appointments in one transaction. Hibernate sends the inserts in JDBC batches of
+     * {@code quarkus.hibernate-orm.jdbc.statement-batch-size}, which the driver rewrites to multi
+     * row inserts ({@code reWriteBatchedInserts}).
+     */
+    @Override
+    public Result<List<Appointment>> createAppointments(List<Appointment> appointments) {
+        try {
+            QuarkusTransaction.joiningExisting().run(() -> {
+                for (var appointment : appointments) {
+                    persist(appointmentEntityMapper.toAppointmentEntity(appointment));
+                }
+                flush();
+                // The entities are not read again, so they do not need to stay managed
+                getEntityManager().clear();
+            });
+            return Result.ok(appointments);
+        } catch (Exception e) {
+            LOGGER.error("Failed to create {} appointments.", appointments.size(), e);
+            return Result.fail(new InfrastructureException(DatabaseErrors.writeErrorCode(e),
+                "Failed to create appointments.", e));
+        }
+    }
+
+    @Override
+    public Result<Appointment> getAppointment(UUID id) {
+        try {
+            var appointmentEntity = findById(id);
+            if (appointmentEntity == null) {
+                return Result.fail(NotFoundException.appointment(id));
+            }
+            return Result.ok(appointmentEntityMapper.toAppointment(appointmentEntity));
+        } catch (Exception e) {
+            LOGGER.error("Failed to get appointment '{}'.", id, e);
+            return Result.fail(new InfrastructureException(ErrorCode.INF_DB_UNKNOWN,
+                "Failed to get appointment '" + id + "'.", e));
+        }
+    }
+
+    @Override
+    public Result<Version> getAppointmentVersion(UUID id) {
+        try {
+            var createdAt = getEntityManager()
+                .createQuery(SELECT_VERSION_BY_ID, ZonedDateTime.class)
+                .setParameter("id", id)
+                .getResultStream()
+                .findFirst();
+            if (createdAt.isEmpty()) {
+                return Result.fail(NotFoundException.appointment(id));
+            }
+            return Result.ok(Version.of(createdAt.get().toInstant()));
+        } catch (Exception e) {
+            LOGGER.error("Failed to get the version of appointment '{}'.", id, e);
+            return Result.fail(new InfrastructureException(ErrorCode.INF_DB_UNKNOWN,
+                "Failed to get the version of appointment '" + id + "'.", e));
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Result<List<Appointment>> getAppointments(Collection<UUID> ids) {
+        try {
+            List<AppointmentEntity> appointmentEntities = getEntityManager()
+                .createNativeQuery(SELECT_BY_IDS, AppointmentEntity.class)
+                .setParameter("ids", ids.toArray(UUID[]::new))
+                .getResultList();
+            return Result.ok(appointmentEntities.stream()
+                .map(appointmentEntityMapper::toAppointment)
+                .toList());
+        } catch (Exception e) {
+            LOGGER.error("Failed to get {} appointments.", ids.size(), e);
+            return Result.fail(new InfrastructureException(ErrorCode.INF_DB_UNKNOWN,
+                "Failed to get appointments.", e));
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Result<Set<UUID>> deleteAppointments(Collection<UUID> ids) {
+        try {
+            List<UUID> deletedIds = QuarkusTransaction.joiningExisting().call(
+                () -> getEntityManager()
+                    .createNativeQuery(DELETE_BY_IDS, UUID.class)
+                    .setParameter("ids", ids.toArray(UUID[]::new))
+                    .getResultList());
+            return Result.ok(new HashSet<>(deletedIds));
+        } catch (Exception e) {
+            LOGGER.error("Failed to delete {} appointments.", ids.size(), e);
+            return Result.fail(new InfrastructureException(ErrorCode.INF_DB_UNKNOWN,
+                "Failed to delete appointments.", e));
+        }
+    }
+
+    @Override
+    public Result<Page<Appointment>> getAppointmentsByCreation(PageCursor after, int limit) {
+        try {
+            return Result.ok(QuarkusTransaction.joiningExisting().call(() -> {
+                var query = getEntityManager().createQuery(
+                    after == null ? FIRST_PAGE_BY_CREATION : NEXT_PAGE_BY_CREATION,
+                    AppointmentEntity.class);
+                if (after != null) {
+                    query.setParameter("createdAt",
+                        ZonedDateTime.ofInstant(after.position(), ZoneOffset.UTC));
+                    query.setParameter("id", after.id());
+                }
+                var appointmentEntities = query
+                    .setHint(HibernateHints.HINT_READ_ONLY, true)
+                    .setMaxResults(limit)
+                    .getResultList();
+
+                PageCursor next = null;
+                if (appointmentEntities.size() == limit) {
+                    var last = appointmentEntities.get(limit - 1);
+                    next = new PageCursor(last.getCreatedAt().toInstant(), last.getId());
+                }
+                return new Page<>(appointmentEntities.stream()
+                    .map(appointmentEntityMapper::toAppointment)
+                    .toList(), next);
+            }));
+        } catch (Exception e) {
+            LOGGER.error("Failed to get appointments after {}.", after, e);
+            return Result.fail(new InfrastructureException(ErrorCode.INF_DB_UNKNOWN,
+                "Failed to get appointments.", e));
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Result<Page<Appointment>> getAppointmentsByDate(Instant from, Instant to,
+        PageCursor after, int limit) {
+        try {
+            var query = getEntityManager()
+                .createNativeQuery(after == null ? FIRST_PAGE_BY_DATE : NEXT_PAGE_BY_DATE,
+                    AppointmentEntity.class)
+                .setParameter("from", ZonedDateTime.ofInstant(from, ZoneOffset.UTC))
+                .setParameter("to", ZonedDateTime.ofInstant(to, ZoneOffset.UTC))
+                .setParameter("limit", limit);
+            if (after != null) {
+                query.setParameter("date", ZonedDateTime.ofInstant(after.position(), ZoneOffset.UTC));
+                query.setParameter("id", after.id());
+            }
+            List<AppointmentEntity> appointmentEntities = query.getResultList();
+
+            PageCursor next = null;
+            if (appointmentEntities.size() == limit) {
+                var last = appointmentEntities.get(limit - 1);
+                next = new PageCursor(last.getDate().toInstant(), last.getId());
+            }
+            return Result.ok(new Page<>(appointmentEntities.stream()
+                .map(appointmentEntityMapper::toAppointment)
+                .toList(), next));
+        } catch (Exception e) {
+            LOGGER.error("Failed to get appointments between {} and {}.", from, to, e);
+            return Result.fail(new InfrastructureException(ErrorCode.INF_DB_UNKNOWN,
+                "Failed to get appointments.", e));
+        }
+    }
+
+    @Override
+    public Result<Version> getAppointmentsVersionByDate(Instant from, Instant to,
+        PageCursor after, int limit) {
+        try {
+            var query = getEntityManager()
+                .createNativeQuery(after == null
+                    ? FIRST_PAGE_VERSION_BY_DATE
+                    : NEXT_PAGE_VERSION_BY_DATE, Object[].class)
+                .setParameter("from", ZonedDateTime.ofInstant(from, ZoneOffset.UTC))
+                .setParameter("to", ZonedDateTime.ofInstant(to, ZoneOffset.UTC))
+                .setParameter("limit", limit);
+            if (after != null) {
+                query.setParameter("date", ZonedDateTime.ofInstant(after.position(), ZoneOffset.UTC));
+                query.setParameter("id", after.id());
+            }
+            var row = (Object[]) query.getSingleResult();
+            var count = ((Number) row[1]).longValue();
+            if (count == 0) {
+                return Result.ok(Version.EMPTY);
+            }
+            return Result.ok(new Version(toInstant(row[0]), count, (UUID) row[2]));
+        } catch (Exception e) {
+            LOGGER.error("Failed to get the version of appointments between {} and {}.", from, to,
+                e);
+            return Result.fail(new InfrastructureException(ErrorCode.INF_DB_UNKNOWN,
+                "Failed to get the version of appointments.", e));
+        }
+    }
+
+    private static Instant toInstant(Object timestamp) {
+        return switch (timestamp) {
+            case Instant instant -> instant;
+            case OffsetDateTime offsetDateTime -> offsetDateTime.toInstant();
+            case ZonedDateTime zonedDateTime -> zonedDateTime.toInstant();
+            case Timestamp sqlTimestamp -> sqlTimestamp.toInstant();
+            default -> throw new IllegalStateException(
+                "Unexpected timestamp type " + timestamp.getClass().getName() + ".");
+        };
+    }
+}
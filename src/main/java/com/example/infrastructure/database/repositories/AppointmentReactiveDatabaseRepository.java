@@ -0,0 +1,255 @@
+package com.example.infrastructure.database.repositories;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import com.example.business.appointments.ReactiveAppointmentRepository;
+import com.example.core.exceptions.ErrorCode;
+import com.example.core.exceptions.InfrastructureException;
+import com.example.core.exceptions.NotFoundException;
+import com.example.core.models.Appointment;
+import com.example.core.primitives.pagination.Page;
+import com.example.core.primitives.pagination.PageCursor;
+import com.example.core.primitives.results.Result;
+import com.example.core.primitives.versions.Version;
+import com.example.infrastructure.database.mappers.AppointmentRowMapper;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.pgclient.PgPool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reactive persistence mode: stores appointments in the table {@code public.appointment} with the
+ * reactive PostgreSQL client. Requests stay on the Vert.x event loop while they wait for the
+ * database, no worker thread is held.
+ *
+ * <p>
+ * The statements are the same as of {@link AppointmentDatabaseRepository}, with positional
+ * parameters. Enabled with the build properties {@code appointment.persistence.mode=reactive} and
+ * {@code quarkus.datasource.reactive=true}.
+ * </p>
+ */
+@Slf4j
+@ApplicationScoped
+@IfBuildProperty(name = "appointment.persistence.mode", stringValue = "reactive")
+public class AppointmentReactiveDatabaseRepository implements ReactiveAppointmentRepository {
+    private static final String COLUMNS =
+        "id, date, location, title, description, creator_name, created_at";
+
+    private static final String INSERT = "INSERT INTO public.appointment"
+        + " (id, date, location, title, description, creator_name) VALUES ($1, $2, $3, $4, $5, $6)";
+
+    private static final String SELECT_BY_ID =
+        "SELECT " + COLUMNS + " FROM public.appointment WHERE id = $1";
+
+    private static final String SELECT_VERSION_BY_ID =
+        "SELECT created_at FROM public.appointment WHERE id = $1";
+
+    private static final String SELECT_BY_IDS =
+        "SELECT " + COLUMNS + " FROM public.appointment WHERE id = ANY($1)";
+
+    private static final String DELETE_BY_IDS =
+        "DELETE FROM public.appointment WHERE id = ANY($1) RETURNING id";
+
+    private static final String FIRST_PAGE_BY_CREATION = "SELECT " + COLUMNS
+        + " FROM public.appointment ORDER BY created_at, id LIMIT $1";
+
+    private static final String NEXT_PAGE_BY_CREATION = "SELECT " + COLUMNS
+        + " FROM public.appointment WHERE (created_at, id) > ($2, $3)"
+        + " ORDER BY created_at, id LIMIT $1";
+
+    private static final String FIRST_PAGE_BY_DATE = "SELECT " + COLUMNS
+        + " FROM public.appointment WHERE date >= $2 AND date < $3 ORDER BY date, id LIMIT $1";
+
+    private static final String NEXT_PAGE_BY_DATE = "SELECT " + COLUMNS
+        + " FROM public.appointment WHERE date >= $2 AND date < $3 AND (date, id) > ($4, $5)"
+        + " ORDER BY date, id LIMIT $1";
+
+    private static final String SELECT_PAGE_VERSION =
+        "SELECT max(created_at), count(*), (array_agg(id ORDER BY date DESC, id DESC))[1] FROM (";
+
+    private static final String FIRST_PAGE_VERSION_BY_DATE = SELECT_PAGE_VERSION
+        + FIRST_PAGE_BY_DATE + ") page";
+
+    private static final String NEXT_PAGE_VERSION_BY_DATE = SELECT_PAGE_VERSION
+        + NEXT_PAGE_BY_DATE + ") page";
+
+    @Inject
+    PgPool pool;
+
+    @Inject
+    AppointmentRowMapper appointmentRowMapper;
+
+    @Override
+    public Uni<Result<Appointment>> createAppointment(Appointment appointment) {
+        return pool.preparedQuery(INSERT)
+            .execute(toTuple(appointment))
+            .map(rows -> Result.ok(appointment))
+            .onFailure().recoverWithItem(e -> fail(DatabaseErrors.writeErrorCode(e), e,
+                "Failed to create appointment."));
+    }
+
+    @Override
+    public Uni<Result<List<Appointment>>> createAppointments(List<Appointment> appointments) {
+        var tuples = new ArrayList<Tuple>(appointments.size());
+        for (var appointment : appointments) {
+            tuples.add(toTuple(appointment));
+        }
+        return pool.withTransaction(connection -> connection.preparedQuery(INSERT)
+                .executeBatch(tuples))
+            .map(rows -> Result.ok(appointments))
+            .onFailure().recoverWithItem(e -> fail(DatabaseErrors.writeErrorCode(e), e,
+                "Failed to create appointments."));
+    }
+
+    @Override
+    public Uni<Result<Appointment>> getAppointment(UUID id) {
+        return pool.preparedQuery(SELECT_BY_ID)
+            .execute(Tuple.of(id))
+            .map(rows -> {
+                var iterator = rows.iterator();
+                if (!iterator.hasNext()) {
+                    return Result.<Appointment>fail(NotFoundException.appointment(id));
+                }
+                return Result.ok(appointmentRowMapper.toAppointment(iterator.next()));
+            })
+            .onFailure().recoverWithItem(e -> fail(e, "Failed to get appointment '" + id + "'."));
+    }
+
+    @Override
+    public Uni<Result<Version>> getAppointmentVersion(UUID id) {
+        return pool.preparedQuery(SELECT_VERSION_BY_ID)
+            .execute(Tuple.of(id))
+            .map(rows -> {
+                var iterator = rows.iterator();
+                if (!iterator.hasNext()) {
+                    return Result.<Version>fail(NotFoundException.appointment(id));
+                }
+                return Result.ok(Version.of(
+                    appointmentRowMapper.getCreatedAt(iterator.next()).toInstant()));
+            })
+            .onFailure().recoverWithItem(
+                e -> fail(e, "Failed to get the version of appointment '" + id + "'."));
+    }
+
+    @Override
+    public Uni<Result<List<Appointment>>> getAppointments(Collection<UUID> ids) {
+        return pool.preparedQuery(SELECT_BY_IDS)
+            .execute(Tuple.of(ids.toArray(UUID[]::new)))
+            .map(rows -> Result.ok(toList(rows, appointmentRowMapper::toAppointment)))
+            .onFailure().recoverWithItem(e -> fail(e, "Failed to get appointments."));
+    }
+
+    @Override
+    public Uni<Result<Set<UUID>>> deleteAppointments(Collection<UUID> ids) {
+        return pool.preparedQuery(DELETE_BY_IDS)
+            .execute(Tuple.of(ids.toArray(UUID[]::new)))
+            .map(rows -> Result.<Set<UUID>>ok(
+                new HashSet<>(toList(rows, row -> row.getUUID("id")))))
+            .onFailure().recoverWithItem(e -> fail(e, "Failed to delete appointments."));
+    }
+
+    @Override
+    public Uni<Result<Page<Appointment>>> getAppointmentsByCreation(PageCursor after, int limit) {
+        var query = after == null
+            ? pool.preparedQuery(FIRST_PAGE_BY_CREATION).execute(Tuple.of(limit))
+            : pool.preparedQuery(NEXT_PAGE_BY_CREATION)
+                .execute(Tuple.of(limit, toOffsetDateTime(after.position()), after.id()));
+        return query
+            .map(rows -> Result.ok(toPage(rows, limit,
+                row -> appointmentRowMapper.getCreatedAt(row).toInstant())))
+            .onFailure().recoverWithItem(e -> fail(e, "Failed to get appointments."));
+    }
+
+    @Override
+    public Uni<Result<Page<Appointment>>> getAppointmentsByDate(Instant from, Instant to,
+        PageCursor after, int limit) {
+        var query = after == null
+            ? pool.preparedQuery(FIRST_PAGE_BY_DATE)
+                .execute(Tuple.of(limit, toOffsetDateTime(from), toOffsetDateTime(to)))
+            : pool.preparedQuery(NEXT_PAGE_BY_DATE)
+                .execute(Tuple.of(limit, toOffsetDateTime(from), toOffsetDateTime(to),
+                    toOffsetDateTime(after.position()), after.id()));
+        return query
+            .map(rows -> Result.ok(toPage(rows, limit,
+                row -> row.getOffsetDateTime("date").toInstant())))
+            .onFailure().recoverWithItem(e -> fail(e, "Failed to get appointments."));
+    }
+
+    @Override
+    public Uni<Result<Version>> getAppointmentsVersionByDate(Instant from, Instant to,
+        PageCursor after, int limit) {
+        var query = after == null
+            ? pool.preparedQuery(FIRST_PAGE_VERSION_BY_DATE)
+                .execute(Tuple.of(limit, toOffsetDateTime(from), toOffsetDateTime(to)))
+            : pool.preparedQuery(NEXT_PAGE_VERSION_BY_DATE)
+                .execute(Tuple.of(limit, toOffsetDateTime(from), toOffsetDateTime(to),
+                    toOffsetDateTime(after.position()), after.id()));
+        return query
+            .map(rows -> {
+                var row = rows.iterator().next();
+                var count = row.getLong(1);
+                return Result.ok(count == 0
+                    ? Version.EMPTY
+                    : new Version(row.getOffsetDateTime(0).toInstant(), count, row.getUUID(2)));
+            })
+            .onFailure().recoverWithItem(e -> fail(e, "Failed to get the version of appointments."));
+    }
+
+    private static Tuple toTuple(Appointment appointment) {
+        var date = appointment.date() == null ? null : appointment.date().toOffsetDateTime();
+        return Tuple.tuple()
+            .addUUID(appointment.id())
+            .addOffsetDateTime(date)
+            .addString(appointment.location())
+            .addString(appointment.title())
+            .addString(appointment.description())
+            .addString(appointment.creatorName());
+    }
+
+    private Page<Appointment> toPage(RowSet<Row> rows, int limit, Function<Row, Instant> position) {
+        var appointments = new ArrayList<Appointment>(rows.size());
+        Row last = null;
+        for (var row : rows) {
+            appointments.add(appointmentRowMapper.toAppointment(row));
+            last = row;
+        }
+        var next = appointments.size() == limit
+            ? new PageCursor(position.apply(last), last.getUUID("id"))
+            : null;
+        return new Page<>(appointments, next);
+    }
+
+    private static <T> List<T> toList(RowSet<Row> rows, Function<Row, T> mapper) {
+        var items = new ArrayList<T>(rows.size());
+        for (var row : rows) {
+            items.add(mapper.apply(row));
+        }
+        return items;
+    }
+
+    private static OffsetDateTime toOffsetDateTime(Instant instant) {
+        return instant.atOffset(ZoneOffset.UTC);
+    }
+
+    private static <T> Result<T> fail(Throwable e, String message) {
+        return fail(ErrorCode.INF_DB_UNKNOWN, e, message);
+    }
+
+    private static <T> Result<T> fail(ErrorCode errorCode, Throwable e, String message) {
+        LOGGER.error(message, e);
+        return Result.fail(new InfrastructureException(errorCode, message, e));
+    }
+}
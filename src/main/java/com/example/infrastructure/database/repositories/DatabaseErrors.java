@@ -0,0 +1,41 @@
+package com.example.infrastructure.database.repositories;
+
+import java.sql.SQLException;
+import com.example.core.exceptions.ErrorCode;
+import io.vertx.pgclient.PgException;
+
+/**
+ * Classifies the failures of database statements by their SQLSTATE, for the JDBC driver and the
+ * reactive client alike.
+ */
+final class DatabaseErrors {
+    private DatabaseErrors() {
+    }
+
+    /**
+     * Gets the error code of a failed write.
+     *
+     * @param failure the failure, or an exception caused by it
+     * @return {@link ErrorCode#INF_DB_CONSTRAINT_VIOLATION} if the written data was rejected
+     *         (SQLSTATE classes {@code 22} data exception and {@code 23} integrity constraint
+     *         violation), otherwise {@link ErrorCode#INF_DB_UNKNOWN}
+     */
+    static ErrorCode writeErrorCode(Throwable failure) {
+        var sqlState = sqlState(failure);
+        return sqlState != null && (sqlState.startsWith("22") || sqlState.startsWith("23"))
+            ? ErrorCode.INF_DB_CONSTRAINT_VIOLATION
+            : ErrorCode.INF_DB_UNKNOWN;
+    }
+
+    private static String sqlState(Throwable failure) {
+        for (var cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException e && e.getSQLState() != null) {
+                return e.getSQLState();
+            }
+            if (cause instanceof PgException e && e.getSqlState() != null) {
+                return e.getSqlState();
+            }
+        }
+        return null;
+    }
+}
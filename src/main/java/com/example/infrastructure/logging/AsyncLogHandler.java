@@ -0,0 +1,134 @@
+package com.example.infrastructure.logging;
+
+import java.util.ArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.ErrorManager;
+import com.example.infrastructure.logging.LoggingConfig.Overflow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+
+/**
+ * Queues log events in a bounded buffer and passes them to the nested handlers on a background
+ * thread, so the logging thread neither formats nor writes them.
+ *
+ * <p>
+ * If the queue is full, the event is handled according to the {@link Overflow} policy. Every
+ * dropped event is counted in {@code logging.events.dropped}, tagged with the reason
+ * {@code overflow}. Events are sampled before, by the {@link SamplingLogHandler} in front of this
+ * handler.
+ * </p>
+ */
+final class AsyncLogHandler extends ExtHandler {
+    private static final int BATCH_SIZE = 256;
+
+    private final BlockingQueue<ExtLogRecord> queue;
+
+    private final Overflow overflow;
+
+    private final Counter overflowed;
+
+    private final Thread writer;
+
+    private volatile boolean closed;
+
+    AsyncLogHandler(int queueLength, Overflow overflow, MeterRegistry registry) {
+        this.queue = new ArrayBlockingQueue<>(queueLength);
+        this.overflow = overflow;
+        this.overflowed = SamplingLogHandler.dropped(registry, "overflow");
+        Gauge.builder("logging.queue.size", queue, BlockingQueue::size)
+            .description("Number of queued log events")
+            .register(registry);
+        this.writer = Thread.ofPlatform().name("async-log-writer").daemon().unstarted(this::write);
+        setCloseChildren(false);
+    }
+
+    /**
+     * Starts the background thread.
+     */
+    void start() {
+        writer.start();
+    }
+
+    @Override
+    protected void doPublish(ExtLogRecord record) {
+        enqueue(record);
+    }
+
+    /**
+     * Stops accepting events, waits until the queued events are written and stops the background
+     * thread. Events, that are published afterwards, are written by the logging thread.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        super.close();
+    }
+
+    private void enqueue(ExtLogRecord record) {
+        if (closed) {
+            publishToNestedHandlers(record);
+            return;
+        }
+        // The event is formatted on the background thread, so the context of the logging thread is
+        // copied now
+        if (!isCallerCalculationRequired()) {
+            record.disableCallerCalculation();
+        }
+        record.copyAll();
+        switch (overflow) {
+            case DISCARD_NEWEST -> {
+                if (!queue.offer(record)) {
+                    overflowed.increment();
+                }
+            }
+            case DISCARD_OLDEST -> {
+                while (!queue.offer(record)) {
+                    if (queue.poll() != null) {
+                        overflowed.increment();
+                    }
+                }
+            }
+            case BLOCK -> {
+                try {
+                    queue.put(record);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    overflowed.increment();
+                }
+            }
+        }
+    }
+
+    private void write() {
+        var batch = new ArrayList<ExtLogRecord>(BATCH_SIZE);
+        while (!closed || !queue.isEmpty()) {
+            try {
+                var record = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (record == null) {
+                    continue;
+                }
+                batch.add(record);
+                queue.drainTo(batch, BATCH_SIZE - 1);
+                for (var queued : batch) {
+                    publishToNestedHandlers(queued);
+                }
+            } catch (InterruptedException e) {
+                closed = true;
+            } catch (RuntimeException e) {
+                reportError("Failed to write log events.", e, ErrorManager.WRITE_FAILURE);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+}
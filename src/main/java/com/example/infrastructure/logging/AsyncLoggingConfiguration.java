@@ -0,0 +1,85 @@
+package com.example.infrastructure.logging;
+
+import java.util.HashMap;
+import java.util.logging.Handler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.interceptor.Interceptor;
+import lombok.extern.slf4j.Slf4j;
+import org.jboss.logmanager.LogContext;
+
+/**
+ * Installs the {@link SamplingLogHandler}, if categories are configured in
+ * {@code appointment.logging.sampling}, and the {@link AsyncLogHandler}, if
+ * {@code appointment.logging.async.enabled} is set, in front of the handlers of the root logger.
+ * Events are sampled on the logging thread, before they are queued. The handlers, that Quarkus
+ * configured (console, JSON formatting), stay unchanged and are restored at shutdown, after the
+ * queued events were written.
+ */
+@Slf4j
+@ApplicationScoped
+public class AsyncLoggingConfiguration {
+    private final LoggingConfig config;
+
+    private final MeterRegistry registry;
+
+    private Handler[] handlers;
+
+    private AsyncLogHandler asyncHandler;
+
+    @Inject
+    public AsyncLoggingConfiguration(LoggingConfig config, MeterRegistry registry) {
+        this.config = config;
+        this.registry = registry;
+    }
+
+    void onStart(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEvent event) {
+        var categories = new HashMap<String, LogSampler.Limits>();
+        config.sampling().forEach((category, sampling) -> categories.put(category,
+            new LogSampler.Limits(sampling.rate(), sampling.limitPerSecond())));
+        if (!config.async().enabled() && categories.isEmpty()) {
+            return;
+        }
+
+        var root = LogContext.getLogContext().getLogger("");
+        handlers = root.getHandlers();
+        var installed = handlers;
+        if (config.async().enabled()) {
+            asyncHandler = new AsyncLogHandler(config.async().queueLength(),
+                config.async().overflow(), registry);
+            asyncHandler.setHandlers(installed);
+            asyncHandler.start();
+            installed = new Handler[] {asyncHandler};
+        }
+        if (!categories.isEmpty()) {
+            var samplingHandler = new SamplingLogHandler(new LogSampler(categories), registry);
+            samplingHandler.setHandlers(installed);
+            installed = new Handler[] {samplingHandler};
+        }
+        root.setHandlers(installed);
+        if (asyncHandler != null) {
+            LOGGER.info("Logging asynchronously (queue length {}, overflow {}).",
+                config.async().queueLength(), config.async().overflow());
+        }
+        if (!categories.isEmpty()) {
+            LOGGER.info("Sampling the log events of the categories {}.", categories.keySet());
+        }
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        if (handlers == null) {
+            return;
+        }
+        LogContext.getLogContext().getLogger("").setHandlers(handlers);
+        handlers = null;
+        if (asyncHandler != null) {
+            asyncHandler.close();
+            asyncHandler = null;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.infrastructure.logging;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import com.example.core.exceptions.base.DomainException;
+import io.quarkiverse.loggingjson.JsonGenerator;
+import io.quarkiverse.loggingjson.JsonProvider;
+import io.quarkus.arc.Unremovable;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.jboss.logmanager.ExtLogRecord;
+
+/**
+ * Writes the errors of JSON log events as structured fields.
+ *
+ * <p>
+ * For a {@link DomainException} (or an event caused by one) the fields {@code errorId} and
+ * {@code errorCode} are written. Every error gets a {@code stackTraceId}, that identifies its
+ * exception types and throwing locations. The {@code stackTrace} itself is only rendered for the
+ * first event of a {@code stackTraceId} and again after
+ * {@code appointment.logging.stack-trace-interval}, so a recurring error does not render and write
+ * the same stack trace on every request. It replaces the stack trace field of quarkus-logging-json,
+ * which is disabled.
+ * </p>
+ */
+@Singleton
+@Unremovable
+public class ErrorJsonProvider implements JsonProvider {
+    private static final int MAX_STACK_TRACES = 4096;
+
+    private static final int MAX_CAUSES = 16;
+
+    private final long intervalNanos;
+
+    private final LongSupplier nanoTime;
+
+    private final Map<String, Long> renderedAt = new ConcurrentHashMap<>();
+
+    @Inject
+    public ErrorJsonProvider(LoggingConfig config) {
+        this(config.stackTraceInterval().toNanos(), System::nanoTime);
+    }
+
+    ErrorJsonProvider(long intervalNanos, LongSupplier nanoTime) {
+        this.intervalNanos = intervalNanos;
+        this.nanoTime = nanoTime;
+    }
+
+    @Override
+    public void writeTo(JsonGenerator generator, ExtLogRecord record) throws IOException {
+        var thrown = record.getThrown();
+        if (thrown == null) {
+            return;
+        }
+        var depth = 0;
+        for (var cause = thrown; cause != null && depth++ < MAX_CAUSES; cause = cause.getCause()) {
+            if (cause instanceof DomainException domainException) {
+                generator.writeStringField("errorId", domainException.getErrorId());
+                generator.writeStringField("errorCode", domainException.getErrorCode().name());
+                break;
+            }
+        }
+
+        var signature = signature(thrown);
+        var stackTraceId = Integer.toHexString(signature.hashCode());
+        generator.writeStringField("stackTraceId", stackTraceId);
+        if (isRenderDue(signature)) {
+            var stackTrace = new StringWriter(1024);
+            thrown.printStackTrace(new PrintWriter(stackTrace));
+            generator.writeStringField("stackTrace", stackTrace.toString());
+        }
+    }
+
+    private boolean isRenderDue(String signature) {
+        var now = nanoTime.getAsLong();
+        var last = renderedAt.get(signature);
+        if (last != null && now - last < intervalNanos) {
+            return false;
+        }
+        if (last == null && renderedAt.size() >= MAX_STACK_TRACES) {
+            renderedAt.clear();
+        }
+        renderedAt.put(signature, now);
+        return true;
+    }
+
+    /**
+     * @return the exception types of the cause chain with their throwing locations. Cause chains
+     *         may be cyclic, so only the first causes are taken into account.
+     */
+    private static String signature(Throwable thrown) {
+        var signature = new StringBuilder(256);
+        var depth = 0;
+        for (var cause = thrown; cause != null && depth++ < MAX_CAUSES; cause = cause.getCause()) {
+            signature.append(cause.getClass().getName());
+            var stackTrace = cause.getStackTrace();
+            if (stackTrace.length > 0) {
+                signature.append('@').append(stackTrace[0]);
+            }
+            signature.append(';');
+        }
+        return signature.toString();
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.infrastructure.logging;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Samples and rate limits DEBUG and INFO events per logger. WARN and ERROR events are always
+ * logged.
+ *
+ * <p>
+ * The limits are configured by logger category, the most specific category of a logger applies.
+ * Every logger has its own rate limit, which allows {@code limitPerSecond} events per second. The
+ * limiters are created once per logger name, afterwards a decision neither locks nor allocates.
+ * </p>
+ */
+final class LogSampler {
+    private static final Limiter UNLIMITED = new Limiter(new Limits(1.0, 0));
+
+    private final Map<String, Limits> categories;
+
+    private final LongSupplier nanoTime;
+
+    private final Map<String, Limiter> limiters = new ConcurrentHashMap<>();
+
+    LogSampler(Map<String, Limits> categories) {
+        this(categories, System::nanoTime);
+    }
+
+    LogSampler(Map<String, Limits> categories, LongSupplier nanoTime) {
+        this.categories = Map.copyOf(categories);
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Decides, whether an event is logged.
+     *
+     * @param record the log event.
+     * @return {@link Verdict#LOG}, or the reason why the event is dropped.
+     */
+    Verdict test(LogRecord record) {
+        if (categories.isEmpty() || record.getLevel().intValue() > Level.INFO.intValue()) {
+            return Verdict.LOG;
+        }
+        var name = record.getLoggerName() == null ? "" : record.getLoggerName();
+        var limiter = limiters.get(name);
+        if (limiter == null) {
+            limiter = limiters.computeIfAbsent(name, this::createLimiter);
+        }
+        return limiter.test(nanoTime.getAsLong());
+    }
+
+    private Limiter createLimiter(String loggerName) {
+        Limits limits = null;
+        int length = -1;
+        for (var category : categories.entrySet()) {
+            var key = category.getKey();
+            var matches = loggerName.equals(key)
+                || loggerName.startsWith(key) && loggerName.charAt(key.length()) == '.';
+            if (matches && key.length() > length) {
+                limits = category.getValue();
+                length = key.length();
+            }
+        }
+        return limits == null ? UNLIMITED : new Limiter(limits);
+    }
+
+    enum Verdict {
+        LOG,
+        SAMPLED,
+        RATE_LIMITED
+    }
+
+    /**
+     * Limits of a logger category.
+     *
+     * @param rate the share of events, that are logged, between 0 and 1.
+     * @param limitPerSecond the maximum number of events per second and logger, 0 for no limit.
+     */
+    record Limits(double rate, int limitPerSecond) {
+    }
+
+    /**
+     * Samples the events of one logger and counts them in fixed windows of one second. The window
+     * and its count share one {@code long}, so they are updated with a single compare and set.
+     */
+    private static final class Limiter {
+        private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+        private final double rate;
+
+        private final int limitPerSecond;
+
+        private final AtomicLong state = new AtomicLong();
+
+        Limiter(Limits limits) {
+            this.rate = limits.rate();
+            this.limitPerSecond = limits.limitPerSecond();
+        }
+
+        Verdict test(long nanoTime) {
+            if (rate < 1.0 && ThreadLocalRandom.current().nextDouble() >= rate) {
+                return Verdict.SAMPLED;
+            }
+            if (limitPerSecond <= 0) {
+                return Verdict.LOG;
+            }
+            var window = Math.floorDiv(nanoTime, NANOS_PER_SECOND) & 0xFFFF_FFFFL;
+            while (true) {
+                var current = state.get();
+                var count = (int) current;
+                if (current >>> 32 != window) {
+                    if (state.compareAndSet(current, window << 32 | 1)) {
+                        return Verdict.LOG;
+                    }
+                } else if (count >= limitPerSecond) {
+                    return Verdict.RATE_LIMITED;
+                } else if (state.compareAndSet(current, current + 1)) {
+                    return Verdict.LOG;
+                }
+            }
+        }
+    }
+}
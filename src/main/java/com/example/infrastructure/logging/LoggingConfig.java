@@ -0,0 +1,87 @@
+package com.example.infrastructure.logging;
+
+import java.time.Duration;
+import java.util.Map;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Configuration of the asynchronous logging ({@code appointment.logging.*}).
+ */
+@ConfigMapping(prefix = "appointment.logging")
+public interface LoggingConfig {
+    /**
+     * @return the configuration of the {@link AsyncLogHandler}.
+     */
+    Async async();
+
+    /**
+     * Sampling and rate limits of DEBUG and INFO events by logger category, e.g.
+     * {@code appointment.logging.sampling."com.example.api".rate=0.1}. The most specific category
+     * of a logger applies, with synchronous and asynchronous logging alike.
+     *
+     * @return the sampling by logger category.
+     */
+    Map<String, Sampling> sampling();
+
+    /**
+     * Stack traces are rendered once per distinct trace and interval, later events only reference
+     * them (see {@link ErrorJsonProvider}).
+     *
+     * @return the interval, after which a stack trace is rendered again.
+     */
+    @WithDefault("PT10M")
+    Duration stackTraceInterval();
+
+    interface Async {
+        /**
+         * @return {@code true} to write the log events on a background thread.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * @return the maximum number of queued log events.
+         */
+        @WithDefault("8192")
+        int queueLength();
+
+        /**
+         * @return what happens to log events, if the queue is full.
+         */
+        @WithDefault("discard-newest")
+        Overflow overflow();
+    }
+
+    interface Sampling {
+        /**
+         * @return the share of events, that are logged, between 0 and 1.
+         */
+        @WithDefault("1.0")
+        double rate();
+
+        /**
+         * @return the maximum number of events per second and logger, 0 for no limit.
+         */
+        @WithDefault("0")
+        int limitPerSecond();
+    }
+
+    /**
+     * Handling of log events, if the queue of the {@link AsyncLogHandler} is full.
+     */
+    enum Overflow {
+        /**
+         * The new event is dropped.
+         */
+        DISCARD_NEWEST,
+        /**
+         * The oldest queued event is dropped, the queue behaves like a ring buffer.
+         */
+        DISCARD_OLDEST,
+        /**
+         * The logging thread waits for free space. Nothing is dropped, but requests may stall.
+         */
+        BLOCK
+    }
+}
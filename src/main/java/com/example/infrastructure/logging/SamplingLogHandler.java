@@ -0,0 +1,43 @@
+package com.example.infrastructure.logging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+
+/**
+ * Samples and rate limits log events with the {@link LogSampler} and passes the remaining events to
+ * the nested handlers on the logging thread. The dropped events are counted in
+ * {@code logging.events.dropped}, tagged with the reason ({@code sampling} or
+ * {@code rate-limit}).
+ */
+final class SamplingLogHandler extends ExtHandler {
+    private final LogSampler sampler;
+
+    private final Counter sampled;
+
+    private final Counter rateLimited;
+
+    SamplingLogHandler(LogSampler sampler, MeterRegistry registry) {
+        this.sampler = sampler;
+        this.sampled = dropped(registry, "sampling");
+        this.rateLimited = dropped(registry, "rate-limit");
+        setCloseChildren(false);
+    }
+
+    @Override
+    protected void doPublish(ExtLogRecord record) {
+        switch (sampler.test(record)) {
+            case SAMPLED -> sampled.increment();
+            case RATE_LIMITED -> rateLimited.increment();
+            case LOG -> publishToNestedHandlers(record);
+        }
+    }
+
+    static Counter dropped(MeterRegistry registry, String reason) {
+        return Counter.builder("logging.events.dropped")
+            .description("Number of log events, that were not written")
+            .tag("reason", reason)
+            .register(registry);
+    }
+}
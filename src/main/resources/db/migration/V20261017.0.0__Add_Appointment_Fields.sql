@@ -0,0 +1,15 @@
+ALTER TABLE public.appointment
+    ADD COLUMN IF NOT EXISTS date TIMESTAMP WITH TIME ZONE,
+    ADD COLUMN IF NOT EXISTS location VARCHAR(255),
+    ADD COLUMN IF NOT EXISTS title VARCHAR(255),
+    ADD COLUMN IF NOT EXISTS description TEXT,
+    ADD COLUMN IF NOT EXISTS creator_name VARCHAR(255);
+
+-- The update must not touch created_at
+ALTER TABLE public.appointment DISABLE TRIGGER trg_update_last_modified_date;
+
+UPDATE public.appointment SET date = created_at WHERE date IS NULL;
+
+ALTER TABLE public.appointment ENABLE TRIGGER trg_update_last_modified_date;
+
+ALTER TABLE public.appointment ALTER COLUMN date SET NOT NULL;
@@ -0,0 +1,2 @@
+-- Keyset pagination on (created_at, id), e.g. for the appointment export
+CREATE INDEX IF NOT EXISTS idx_appointment_created_at_id ON public.appointment (created_at, id);
@@ -0,0 +1,2 @@
+-- Range queries on the appointment date with keyset pagination on (date, id)
+CREATE INDEX IF NOT EXISTS idx_appointment_date_id ON public.appointment (date, id);
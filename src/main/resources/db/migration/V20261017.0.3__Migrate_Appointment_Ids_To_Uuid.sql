@@ -0,0 +1,33 @@
+-- Replaces the VARCHAR(3) ids with time-ordered UUIDs (version 7), generated by the application.
+-- Existing rows get a UUID derived from their creation time, so they keep their relative order.
+CREATE OR REPLACE FUNCTION pg_temp.uuid_v7_at(ts TIMESTAMP WITH TIME ZONE) RETURNS UUID AS $$
+SELECT encode(
+    set_bit(set_bit(
+        overlay(uuid_send(gen_random_uuid())
+            PLACING substring(int8send(floor(extract(epoch FROM ts) * 1000)::BIGINT) FROM 3)
+            FROM 1 FOR 6),
+        52, 1), 53, 1),
+    'hex')::UUID;
+$$ LANGUAGE sql VOLATILE;
+
+-- The update must not touch created_at
+ALTER TABLE public.appointment DISABLE TRIGGER trg_update_last_modified_date;
+
+ALTER TABLE public.appointment ADD COLUMN new_id UUID;
+
+UPDATE public.appointment SET new_id = pg_temp.uuid_v7_at(created_at);
+
+ALTER TABLE public.appointment ENABLE TRIGGER trg_update_last_modified_date;
+
+-- Dropping the old id also drops the primary key and the indexes on (created_at, id) and (date, id)
+ALTER TABLE public.appointment DROP COLUMN id;
+
+ALTER TABLE public.appointment RENAME COLUMN new_id TO id;
+
+ALTER TABLE public.appointment ALTER COLUMN id SET NOT NULL;
+
+ALTER TABLE public.appointment ADD CONSTRAINT appointment_pkey PRIMARY KEY (id);
+
+CREATE INDEX IF NOT EXISTS idx_appointment_created_at_id ON public.appointment (created_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_appointment_date_id ON public.appointment (date, id);
@@ -0,0 +1,27 @@
+-- Publishes every change of an appointment on the channel appointment_changes, which the service listens to with a
+-- single connection (GET /appointment/changes). Notifications are sent on commit, in commit order.
+-- The payload only references the appointment and stays far below the 8000 bytes limit of NOTIFY. The id orders the
+-- changes and lets clients resume after a reconnect (Last-Event-ID).
+CREATE SEQUENCE IF NOT EXISTS public.appointment_change_seq;
+
+CREATE OR REPLACE FUNCTION notify_appointment_change() RETURNS TRIGGER AS $$
+DECLARE
+    appointment public.appointment;
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        appointment := OLD;
+    ELSE
+        appointment := NEW;
+    END IF;
+    PERFORM pg_notify('appointment_changes', json_build_object(
+        'id', nextval('public.appointment_change_seq'),
+        'operation', TG_OP,
+        'appointmentId', appointment.id,
+        'date', appointment.date)::text);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_notify_appointment_change AFTER
+INSERT OR UPDATE OR DELETE
+    ON public.appointment FOR EACH ROW EXECUTE FUNCTION notify_appointment_change();
@@ -0,0 +1,112 @@
+package com.example.api.rest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import io.quarkus.test.junit.QuarkusIntegrationTest;
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Records the startup time and the resident memory (RSS) of the native executable. The values are
+ * printed to stdout and written to {@code build/reports/native-startup/<mode>.properties}, run with
+ * {@code ./gradlew testNative}.
+ *
+ * <p>
+ * This class starts the executable with the migrations at startup.
+ * {@link NativeStartupWithoutMigrationsIT} measures the production mode, in which the migrations
+ * run as a separate job.
+ * </p>
+ */
+@QuarkusIntegrationTest
+class NativeStartupIT {
+    private static final Path LOG = Path.of("build", "quarkus.log");
+
+    private static final Pattern STARTED = Pattern.compile("started in (\\d+\\.\\d+)s");
+
+    private static final Pattern RSS = Pattern.compile("VmRSS:\\s+(\\d+) kB");
+
+    private static final Path REPORTS = Path.of("build", "reports", "native-startup");
+
+    /**
+     * Written by the Quarkus build, {@code path} is the executable relative to the build directory.
+     */
+    private static final Path ARTIFACT = Path.of("build", "quarkus-artifact.properties");
+
+    String mode() {
+        return "migrations-at-start";
+    }
+
+    /**
+     * The startup time, that must not be exceeded. Migrating at startup is not held to a limit,
+     * since the time depends on the pending migrations.
+     */
+    long maxStartupMillis() {
+        return Long.MAX_VALUE;
+    }
+
+    @Test
+    void recordStartupTime() throws IOException {
+        var started = STARTED.matcher(Files.readString(LOG));
+        String seconds = null;
+        while (started.find()) {
+            seconds = started.group(1);
+        }
+
+        assertThat(seconds).as("startup line in %s", LOG).isNotNull();
+        var millis = Math.round(Double.parseDouble(seconds) * 1000);
+        System.out.printf("Native startup time (%s): %d ms%n", mode(), millis);
+        report("startup-ms", millis);
+        assertThat(millis).as("startup time in ms").isLessThanOrEqualTo(maxStartupMillis());
+    }
+
+    @Test
+    void recordResidentMemory() throws IOException {
+        // Serve a request first, so that the request path is part of the measured memory
+        given().when().get("/appointment/" + UUID.randomUUID()).then().statusCode(404);
+
+        // Only the executable, that this test started, other runners may exist on the same host
+        var executable = executable().toString();
+        var runner = ProcessHandle.current().descendants()
+            .filter(process -> process.info().command().filter(executable::equals).isPresent())
+            .findFirst();
+        var status = runner.map(process -> Path.of("/proc", String.valueOf(process.pid()), "status"));
+        assumeTrue(status.filter(Files::exists).isPresent(), "RSS is read from /proc (Linux only)");
+
+        var rss = RSS.matcher(Files.readString(status.get()));
+        assertThat(rss.find()).isTrue();
+        var mebibytes = Long.parseLong(rss.group(1)) / 1024;
+        System.out.printf("Native resident memory (%s): %d MiB%n", mode(), mebibytes);
+        report("rss-mib", mebibytes);
+    }
+
+    private static Path executable() throws IOException {
+        var artifact = new Properties();
+        try (var reader = Files.newBufferedReader(ARTIFACT)) {
+            artifact.load(reader);
+        }
+        var path = artifact.getProperty("path");
+        assertThat(path).as("path in %s", ARTIFACT).isNotNull();
+        return ARTIFACT.resolveSibling(path).toRealPath();
+    }
+
+    private synchronized void report(String key, long value) throws IOException {
+        var file = REPORTS.resolve(mode() + ".properties");
+        var report = new Properties();
+        if (Files.exists(file)) {
+            try (var reader = Files.newBufferedReader(file)) {
+                report.load(reader);
+            }
+        }
+        report.setProperty(key, String.valueOf(value));
+        Files.createDirectories(REPORTS);
+        try (var writer = Files.newBufferedWriter(file)) {
+            report.store(writer, "Native startup, " + mode());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.api.rest;
+
+import java.util.List;
+import java.util.Map;
+import io.quarkus.test.common.DevServicesContext;
+import io.quarkus.test.common.QuarkusTestResourceLifecycleManager;
+import io.quarkus.test.junit.QuarkusIntegrationTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import org.flywaydb.core.Flyway;
+
+/**
+ * Records the startup time and the resident memory of the native executable in the production mode,
+ * in which the migrations run as a separate job and the service only checks the schema version.
+ *
+ * <p>
+ * The startup time is targeted at 100 ms, but has not been measured on a native build yet. It is
+ * therefore only enforced when a limit is given, e.g.
+ * {@code ./gradlew testNative -Pnative-startup.max-ms=100}.
+ * </p>
+ */
+@QuarkusIntegrationTest
+@TestProfile(NativeStartupWithoutMigrationsIT.MigrationJob.class)
+class NativeStartupWithoutMigrationsIT extends NativeStartupIT {
+    @Override
+    String mode() {
+        return "migration-job";
+    }
+
+    @Override
+    long maxStartupMillis() {
+        return Long.getLong("native-startup.max-ms", Long.MAX_VALUE);
+    }
+
+    /**
+     * Migrates the database before the executable starts, like the migration job in production, so
+     * the test does not depend on another test having migrated the database.
+     */
+    public static class MigrationJob implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("quarkus.flyway.migrate-at-start", "false");
+        }
+
+        @Override
+        public List<TestResourceEntry> testResources() {
+            return List.of(new TestResourceEntry(Migration.class));
+        }
+    }
+
+    public static class Migration
+        implements QuarkusTestResourceLifecycleManager, DevServicesContext.ContextAware {
+        private Map<String, String> properties = Map.of();
+
+        @Override
+        public void setIntegrationTestContext(DevServicesContext context) {
+            properties = context.devServicesProperties();
+        }
+
+        @Override
+        public Map<String, String> start() {
+            Flyway.configure()
+                .dataSource(properties.get("quarkus.datasource.jdbc.url"),
+                    properties.get("quarkus.datasource.username"),
+                    properties.get("quarkus.datasource.password"))
+                .locations("filesystem:src/main/resources/db/migration")
+                .baselineOnMigrate(true)
+                .load()
+                .migrate();
+            return Map.of();
+        }
+
+        @Override
+        public void stop() {
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.api.rest.controller;
+
+import io.quarkus.test.junit.QuarkusIntegrationTest;
+
+/**
+ * Runs the appointment CRUD flow of {@link AppointmentResourceTest} against the native executable.
+ */
+@QuarkusIntegrationTest
+class AppointmentResourceIT extends AppointmentResourceTest {
+}
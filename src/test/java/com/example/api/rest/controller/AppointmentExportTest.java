@@ -0,0 +1,124 @@
+package com.example.api.rest.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.restassured.http.ContentType;
+import io.restassured.path.json.JsonPath;
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Exports more appointments than fit on a page. The appointments of a bulk request are stored in
+ * one transaction and share their {@code created_at}, so the page boundaries fall between
+ * appointments with equal creation time.
+ */
+@QuarkusTest
+@TestProfile(AppointmentExportTest.SmallPages.class)
+class AppointmentExportTest {
+    private static final int PAGE_SIZE = 3;
+
+    private static final int COUNT = 8;
+
+    private static boolean created;
+
+    @BeforeEach
+    void createAppointments() {
+        if (created) {
+            return;
+        }
+        // Two transactions of 4 appointments, the pages end within both
+        create(0, 4);
+        create(4, COUNT);
+        given()
+            .contentType(ContentType.JSON)
+            .body("""
+                {"date": "2024-10-14T09:00:00Z", "location": "Room, 1", "title": "Say \\"hi\\"",
+                 "description": "Line 1\\nLine 2"}
+                """)
+            .when().post("/appointment")
+            .then()
+            .statusCode(201);
+        created = true;
+    }
+
+    @Test
+    void exportsAllPagesInOrderAsNdjson() {
+        var body = given()
+            .accept("application/x-ndjson")
+            .when().get("/appointment/export")
+            .then()
+            .statusCode(200)
+            .extract().asString();
+
+        // Skips the appointment of the initial migration, that has no title
+        var titles = body.lines()
+            .filter(line -> !line.isBlank())
+            .map(line -> JsonPath.from(line).getString("title"))
+            .filter(Objects::nonNull)
+            .toList();
+        var expected = new ArrayList<>(titles(0, COUNT));
+        expected.add("Say \"hi\"");
+        assertThat(titles).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void exportsAllPagesInOrderAsCsv() {
+        var body = given()
+            .accept("text/csv")
+            .when().get("/appointment/export")
+            .then()
+            .statusCode(200)
+            .extract().asString();
+
+        assertThat(body).startsWith("date,location,title,description\r\n");
+        var position = 0;
+        for (var title : titles(0, COUNT)) {
+            var line = ",Room 1," + title + ",\r\n";
+            var index = body.indexOf(line);
+            assertThat(index).as(title).isGreaterThan(position);
+            assertThat(body.indexOf(line, index + 1)).as(title).isNegative();
+            position = index;
+        }
+        assertThat(body).endsWith(",\"Room, 1\",\"Say \"\"hi\"\"\",\"Line 1\nLine 2\"\r\n");
+        // Header, the appointment of the initial migration, the appointments of the pages and the
+        // escaped appointment
+        assertThat(body.split("\r\n")).hasSize(1 + 1 + COUNT + 1);
+    }
+
+    private static void create(int from, int to) {
+        var body = titles(from, to).stream()
+            .map(title -> "{\"date\": \"2024-10-14T09:00:00Z\", \"location\": \"Room 1\", "
+                + "\"title\": \"" + title + "\"}")
+            .toList();
+        given()
+            .contentType(ContentType.JSON)
+            .body("[" + String.join(",", body) + "]")
+            .when().post("/appointment/bulk")
+            .then()
+            .statusCode(200);
+    }
+
+    private static List<String> titles(int from, int to) {
+        return IntStream.range(from, to).mapToObj(i -> "Export " + i).toList();
+    }
+
+    /**
+     * Pages smaller than the number of appointments. Flyway cleans the database, when the
+     * application restarts with this profile, so the export only contains the appointments of this
+     * test and the one of the initial migration.
+     */
+    public static class SmallPages implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("appointment.export.page-size", Integer.toString(PAGE_SIZE));
+        }
+    }
+}
@@ -0,0 +1,460 @@
+package com.example.api.rest.controller;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import com.example.api.rest.serialization.BinaryObjectWriters;
+import com.example.api.rest.serialization.MediaTypes;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.emptyString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+import org.junit.jupiter.api.Test;
+
+@QuarkusTest
+class AppointmentResourceTest {
+    private static final String APPOINTMENT = """
+        {"date": "2024-10-14T09:00:00Z", "location": "Room 1", "title": "Workshop"}
+        """;
+
+    @TestHTTPResource("/appointment/changes")
+    URI changes;
+
+    @Test
+    void createAppointment() {
+        given()
+            .contentType(ContentType.JSON)
+            .body(APPOINTMENT)
+            .when().post("/appointment")
+            .then()
+            .statusCode(201)
+            .header("Location", containsString("/appointment/"))
+            .body("title", equalTo("Workshop"))
+            .body("id", nullValue());
+    }
+
+    @Test
+    void createAppointmentWithoutDate() {
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"title\": \"Workshop\"}")
+            .when().post("/appointment")
+            .then()
+            .statusCode(400);
+    }
+
+    @Test
+    void createAppointmentsWithItemFailures() {
+        given()
+            .contentType(ContentType.JSON)
+            .body("[" + APPOINTMENT + ", {\"title\": \"No date\"}]")
+            .when().post("/appointment/bulk")
+            .then()
+            .statusCode(200)
+            .body("", hasSize(2))
+            .body("[0].result", startsWith("/appointment/"))
+            .body("[1].error.errorCode", equalTo(301));
+    }
+
+    @Test
+    void createAppointmentsWithRejectedItem() {
+        var tooLong = "{\"date\": \"2024-10-14T09:00:00Z\", \"title\": \"" + "x".repeat(256) + "\"}";
+        given()
+            .contentType(ContentType.JSON)
+            .body("[" + APPOINTMENT + ", " + tooLong + "]")
+            .when().post("/appointment/bulk")
+            .then()
+            .statusCode(200)
+            .body("", hasSize(2))
+            .body("[0].result", startsWith("/appointment/"))
+            .body("[1].error.errorCode", equalTo(207));
+    }
+
+    @Test
+    void getAppointment() {
+        given()
+            .when().get(createAppointmentLocation())
+            .then()
+            .statusCode(200)
+            .body("date", notNullValue())
+            .body("id", nullValue())
+            .body("creatorName", nullValue());
+    }
+
+    @Test
+    void getMissingAppointment() {
+        given()
+            .when().get("/appointment/" + UUID.randomUUID())
+            .then()
+            .statusCode(404)
+            .body("statusCode", equalTo(404))
+            .body("errorCode", equalTo(304))
+            .body("errorId", notNullValue());
+    }
+
+    @Test
+    void getAppointmentNotModified() {
+        var location = createAppointmentLocation();
+        var etag = given()
+            .when().get(location)
+            .then()
+            .statusCode(200)
+            .header("Last-Modified", notNullValue())
+            .extract().header("ETag");
+
+        given()
+            .header("If-None-Match", etag)
+            .when().get(location)
+            .then()
+            .statusCode(304)
+            .header("ETag", equalTo(etag))
+            .body(emptyString());
+        given()
+            .header("If-None-Match", "\"0-1\"")
+            .when().get(location)
+            .then()
+            .statusCode(200)
+            .header("ETag", equalTo(etag));
+    }
+
+    @Test
+    void getAppointmentNotModifiedSince() {
+        var location = createAppointmentLocation();
+        var lastModified = given()
+            .when().get(location)
+            .then()
+            .statusCode(200)
+            .extract().header("Last-Modified");
+
+        given()
+            .header("If-Modified-Since", lastModified)
+            .when().get(location)
+            .then()
+            .statusCode(304);
+        given()
+            .header("If-Modified-Since", "Sat, 01 Jan 2000 00:00:00 GMT")
+            .when().get(location)
+            .then()
+            .statusCode(200);
+    }
+
+    @Test
+    void getMissingAppointmentConditionally() {
+        given()
+            .header("If-None-Match", "\"0-1\"")
+            .when().get("/appointment/" + UUID.randomUUID())
+            .then()
+            .statusCode(404)
+            .body("errorCode", equalTo(304));
+    }
+
+    @Test
+    void getMalformedAppointmentId() {
+        given()
+            .when().get("/appointment/001")
+            .then()
+            .statusCode(404);
+    }
+
+    @Test
+    void getAppointmentsInRequestOrder() {
+        var id = createAppointmentId();
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("[\"" + UUID.randomUUID() + "\", \"" + id + "\"]")
+            .when().post("/appointment/batch-get")
+            .then()
+            .statusCode(200)
+            .body("", hasSize(2))
+            .body("[0].error.errorCode", equalTo(304))
+            .body("[0].result", nullValue())
+            .body("[1].result.date", notNullValue())
+            .body("[1].error", nullValue());
+    }
+
+    @Test
+    void deleteAppointment() {
+        var location = createAppointmentLocation();
+
+        given()
+            .when().delete(location)
+            .then()
+            .statusCode(204);
+        given()
+            .when().get(location)
+            .then()
+            .statusCode(404);
+    }
+
+    @Test
+    void deleteMissingAppointments() {
+        given()
+            .queryParam("ids", UUID.randomUUID(), UUID.randomUUID())
+            .when().delete("/appointment")
+            .then()
+            .statusCode(200)
+            .body("", hasSize(2))
+            .body("[0].error.errorCode", equalTo(304))
+            .body("[1].error.errorCode", equalTo(304));
+    }
+
+    @Test
+    void getAppointmentsInRange() {
+        given()
+            .queryParam("from", "2000-01-01T00:00:00Z")
+            .queryParam("to", "2100-01-01T00:00:00Z")
+            .queryParam("limit", 1)
+            .when().get("/appointment")
+            .then()
+            .statusCode(200)
+            .body("items", hasSize(1))
+            .body("items[0].id", nullValue());
+    }
+
+    @Test
+    void getAppointmentsInRangeNotModified() {
+        createAppointmentLocation();
+        var etag = given()
+            .queryParam("from", "2024-10-14T00:00:00Z")
+            .queryParam("to", "2024-10-15T00:00:00Z")
+            .when().get("/appointment")
+            .then()
+            .statusCode(200)
+            .header("Last-Modified", notNullValue())
+            .extract().header("ETag");
+
+        given()
+            .queryParam("from", "2024-10-14T00:00:00Z")
+            .queryParam("to", "2024-10-15T00:00:00Z")
+            .header("If-None-Match", etag)
+            .when().get("/appointment")
+            .then()
+            .statusCode(304);
+
+        createAppointmentLocation();
+        given()
+            .queryParam("from", "2024-10-14T00:00:00Z")
+            .queryParam("to", "2024-10-15T00:00:00Z")
+            .header("If-None-Match", etag)
+            .when().get("/appointment")
+            .then()
+            .statusCode(200)
+            .header("ETag", not(equalTo(etag)));
+    }
+
+    @Test
+    void getAppointmentsInRangeNotModifiedAfterDelete() {
+        var location = createAppointmentLocation();
+        var etag = given()
+            .queryParam("from", "2024-10-14T00:00:00Z")
+            .queryParam("to", "2024-10-15T00:00:00Z")
+            .when().get("/appointment")
+            .then()
+            .statusCode(200)
+            .extract().header("ETag");
+
+        given()
+            .when().delete(location)
+            .then()
+            .statusCode(204);
+        given()
+            .queryParam("from", "2024-10-14T00:00:00Z")
+            .queryParam("to", "2024-10-15T00:00:00Z")
+            .header("If-None-Match", etag)
+            .when().get("/appointment")
+            .then()
+            .statusCode(200);
+    }
+
+    @Test
+    void getAppointmentsInRangeModifiedAfterDeleteWithinFullPage() {
+        var first = createAppointmentLocation("2024-10-21T09:00:00Z");
+        createAppointmentLocation("2024-10-21T10:00:00Z");
+        var etag = given()
+            .queryParam("from", "2024-10-21T00:00:00Z")
+            .queryParam("to", "2024-10-22T00:00:00Z")
+            .queryParam("limit", 1)
+            .when().get("/appointment")
+            .then()
+            .statusCode(200)
+            .extract().header("ETag");
+
+        // The second appointment moves into the page, its count stays the same
+        given()
+            .when().delete(first)
+            .then()
+            .statusCode(204);
+        given()
+            .queryParam("from", "2024-10-21T00:00:00Z")
+            .queryParam("to", "2024-10-22T00:00:00Z")
+            .queryParam("limit", 1)
+            .header("If-None-Match", etag)
+            .when().get("/appointment")
+            .then()
+            .statusCode(200)
+            .header("ETag", not(equalTo(etag)));
+    }
+
+    @Test
+    void getAppointmentsAsCbor() throws Exception {
+        var id = createAppointmentId();
+
+        var body = given()
+            .contentType(ContentType.JSON)
+            .accept(MediaTypes.APPLICATION_CBOR)
+            .body("[\"" + id + "\"]")
+            .when().post("/appointment/batch-get")
+            .then()
+            .statusCode(200)
+            .contentType(MediaTypes.APPLICATION_CBOR)
+            .extract().asByteArray();
+
+        var entries = new BinaryObjectWriters().mapperFor(MediaTypes.APPLICATION_CBOR_TYPE)
+            .readTree(body);
+        assertThat(entries.get(0).at("/result/title").asText()).isEqualTo("Workshop");
+        assertThat(entries.get(0).at("/result/date").longValue())
+            .isEqualTo(Instant.parse("2024-10-14T09:00:00Z").toEpochMilli());
+    }
+
+    @Test
+    void getAppointmentAsSmileWithOwnEntityTag() throws Exception {
+        var location = createAppointmentLocation();
+        var jsonEtag = given()
+            .when().get(location)
+            .then()
+            .statusCode(200)
+            .header("Vary", containsString("Accept"))
+            .extract().header("ETag");
+
+        var response = given()
+            .accept(MediaTypes.APPLICATION_SMILE)
+            .header("If-None-Match", jsonEtag)
+            .when().get(location)
+            .then()
+            .statusCode(200)
+            .contentType(MediaTypes.APPLICATION_SMILE)
+            .header("ETag", not(equalTo(jsonEtag)))
+            .extract();
+        var appointment = new BinaryObjectWriters().mapperFor(MediaTypes.APPLICATION_SMILE_TYPE)
+            .readTree(response.asByteArray());
+        assertThat(appointment.get("location").asText()).isEqualTo("Room 1");
+
+        given()
+            .accept(MediaTypes.APPLICATION_SMILE)
+            .header("If-None-Match", response.header("ETag"))
+            .when().get(location)
+            .then()
+            .statusCode(304);
+    }
+
+    @Test
+    void getAppointmentsInRangeAsCbor() {
+        createAppointmentLocation();
+
+        given()
+            .queryParam("from", "2024-10-14T00:00:00Z")
+            .queryParam("to", "2024-10-15T00:00:00Z")
+            .accept(MediaTypes.APPLICATION_CBOR)
+            .when().get("/appointment")
+            .then()
+            .statusCode(200)
+            .contentType(MediaTypes.APPLICATION_CBOR)
+            .header("ETag", endsWith("-cbor\""));
+    }
+
+    @Test
+    void getAppointmentsInInvalidRange() {
+        given()
+            .queryParam("from", "2100-01-01T00:00:00Z")
+            .queryParam("to", "2000-01-01T00:00:00Z")
+            .when().get("/appointment")
+            .then()
+            .statusCode(400)
+            .body("errorCode", equalTo(301));
+    }
+
+    @Test
+    void exportAppointmentsAsNdjson() {
+        given()
+            .accept("application/x-ndjson")
+            .when().get("/appointment/export")
+            .then()
+            .statusCode(200)
+            .body(containsString("\"date\""));
+    }
+
+    @Test
+    void exportAppointmentsAsCsv() {
+        given()
+            .accept("text/csv")
+            .when().get("/appointment/export")
+            .then()
+            .statusCode(200)
+            .body(startsWith("date,location,title,description\r\n"));
+    }
+
+    @Test
+    void streamAppointmentChanges() throws Exception {
+        // An unknown id starts the stream with a reset
+        var request = HttpRequest.newBuilder(URI.create(changes + "?lastEventId=-1"))
+            .header("Accept", "text/event-stream")
+            .build();
+        // Closing the client waits for the endless stream, so the stream is cancelled first
+        var client = HttpClient.newHttpClient();
+        try (var lines = client.send(request, HttpResponse.BodyHandlers.ofLines()).body()) {
+            var created = CompletableFuture.supplyAsync(() -> lines
+                .dropWhile(line -> !line.matches("event: ?created"))
+                .filter(line -> line.startsWith("data:"))
+                .findFirst()
+                .orElseThrow());
+
+            var location = createAppointmentLocation();
+
+            assertThat(created.get(10, TimeUnit.SECONDS))
+                .contains("\"uri\":\"" + URI.create(location).getPath() + "\"");
+        } finally {
+            client.shutdownNow();
+        }
+    }
+
+    private static String createAppointmentLocation() {
+        return given()
+            .contentType(ContentType.JSON)
+            .body(APPOINTMENT)
+            .when().post("/appointment")
+            .then()
+            .statusCode(201)
+            .extract().header("Location");
+    }
+
+    private static String createAppointmentLocation(String date) {
+        return given()
+            .contentType(ContentType.JSON)
+            .body(APPOINTMENT.replace("2024-10-14T09:00:00Z", date))
+            .when().post("/appointment")
+            .then()
+            .statusCode(201)
+            .extract().header("Location");
+    }
+
+    private static String createAppointmentId() {
+        var location = createAppointmentLocation();
+        return location.substring(location.lastIndexOf('/') + 1);
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.api.rest.exceptions;
+
+import java.nio.charset.StandardCharsets;
+import static org.assertj.core.api.Assertions.assertThat;
+import com.example.core.exceptions.ErrorCode;
+import com.example.core.exceptions.InvalidArgumentException;
+import com.example.core.exceptions.NotFoundException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.ws.rs.core.Response.Status;
+import org.junit.jupiter.api.Test;
+
+class ErrorResponseMapperTest {
+    // Quarkus writes dates as ISO-8601 strings
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+        .addModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+
+    @Test
+    void rendersTheErrorResponse() throws Exception {
+        var mapper = mapper(false);
+        var exception = new NotFoundException(ErrorCode.DOM_NOT_FOUND, "Appointment \"1\" was not found.");
+
+        var response = mapper.toResponse(exception);
+
+        assertThat(response.getStatus()).isEqualTo(Status.NOT_FOUND.getStatusCode());
+        assertThat(MAPPER.readTree((byte[]) response.getEntity()))
+            .isEqualTo(MAPPER.valueToTree(mapper.toErrorResponse(exception)));
+    }
+
+    @Test
+    void rendersTheDescriptionInProduction() throws Exception {
+        var mapper = mapper(true);
+        var exception = new NotFoundException(ErrorCode.DOM_NOT_FOUND, "Appointment was not found.");
+
+        var json = new String((byte[]) mapper.toResponse(exception).getEntity(), StandardCharsets.UTF_8);
+
+        assertThat(MAPPER.readTree(json).get("message").asText())
+            .isEqualTo(ErrorCode.DOM_NOT_FOUND.getDescription());
+        assertThat(MAPPER.readTree(json).get("errorId").asText()).isEqualTo(exception.getErrorId());
+        assertThat(MAPPER.readTree(json).get("date").asText())
+            .isEqualTo(exception.getErrorDate().toString());
+    }
+
+    @Test
+    void mapsTheStatusResolvedAtBuildTime() {
+        var mapper = mapper(false);
+
+        assertThat(mapper.toStatus(new NotFoundException(ErrorCode.DOM_NOT_FOUND, "")))
+            .isEqualTo(Status.NOT_FOUND);
+        assertThat(mapper.toStatus(new InvalidArgumentException(ErrorCode.DOM_INVALID_ARGUMENTS, "")))
+            .isEqualTo(Status.BAD_REQUEST);
+        // unknown at build time, inherits the status of its superclass
+        assertThat(mapper.toStatus(new NotFoundException(ErrorCode.DOM_NOT_FOUND, "") {}))
+            .isEqualTo(Status.NOT_FOUND);
+    }
+
+    @Test
+    void rendersEveryErrorCodeWithThePreparedTemplates() throws Exception {
+        var mapper = mapper(true);
+
+        for (var errorCode : ErrorCode.values()) {
+            var json = MAPPER.readTree((byte[]) mapper.toResponse(
+                new InvalidArgumentException(errorCode, "")).getEntity());
+
+            assertThat(json.get("statusCode").asInt()).isEqualTo(Status.BAD_REQUEST.getStatusCode());
+            assertThat(json.get("errorCode").asInt()).isEqualTo(errorCode.getErrorNumber());
+        }
+    }
+
+    @Test
+    void looksUpErrorCodesByNumber() {
+        for (var errorCode : ErrorCode.values()) {
+            assertThat(ErrorCode.fromNumber(errorCode.getErrorNumber())).contains(errorCode);
+            assertThat(ErrorCode.fromString(errorCode.name())).contains(errorCode);
+        }
+        assertThat(ErrorCode.fromNumber(-1)).isEmpty();
+        assertThat(ErrorCode.fromNumber(99)).isEmpty();
+        assertThat(ErrorCode.fromNumber(100_000)).isEmpty();
+        assertThat(ErrorCode.fromString(null)).isEmpty();
+    }
+
+    private static ErrorResponseMapper mapper(boolean isProduction) {
+        return new ErrorResponseMapper(isProduction);
+    }
+}
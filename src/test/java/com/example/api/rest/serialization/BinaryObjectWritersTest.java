@@ -0,0 +1,68 @@
+package com.example.api.rest.serialization;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import com.example.api.rest.dtos.AppointmentDTO;
+import com.example.api.rest.dtos.AppointmentPageDTO;
+import com.example.api.rest.dtos.BatchEntryDTO;
+import com.fasterxml.jackson.core.type.TypeReference;
+import jakarta.ws.rs.core.MediaType;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+
+class BinaryObjectWritersTest {
+    private static final ZonedDateTime DATE = ZonedDateTime.parse("2024-10-14T09:00:00Z");
+
+    private final BinaryObjectWriters writers = new BinaryObjectWriters();
+
+    @Test
+    void writesDatesAsEpochMillis() throws Exception {
+        for (var mediaType : List.of(MediaTypes.APPLICATION_CBOR_TYPE,
+            MediaTypes.APPLICATION_SMILE_TYPE)) {
+            var bytes = writers.writerFor(mediaType, AppointmentDTO.class)
+                .writeValueAsBytes(new AppointmentDTO(DATE, "Room 1", "Workshop", null));
+
+            var tree = writers.mapperFor(mediaType).readTree(bytes);
+            assertThat(tree.get("date").isIntegralNumber()).isTrue();
+            assertThat(tree.get("date").longValue()).isEqualTo(DATE.toInstant().toEpochMilli());
+        }
+    }
+
+    @Test
+    void readsWrittenPages() throws Exception {
+        var page = new AppointmentPageDTO(List.of(
+            new AppointmentDTO(DATE, "Room 1", "Workshop", "Quarkus workshop"),
+            new AppointmentDTO(DATE.plusHours(1), "Room 2", "Review", null)), "next");
+
+        var bytes = writers.writerFor(MediaTypes.APPLICATION_CBOR_TYPE, AppointmentPageDTO.class)
+            .writeValueAsBytes(page);
+        var read = writers.mapperFor(MediaTypes.APPLICATION_CBOR_TYPE)
+            .readValue(bytes, AppointmentPageDTO.class);
+
+        assertThat(read.next()).isEqualTo("next");
+        assertThat(read.items()).hasSize(2);
+        assertThat(read.items().getFirst().date().toInstant()).isEqualTo(DATE.toInstant());
+        assertThat(read.items().get(1).description()).isNull();
+    }
+
+    @Test
+    void reusesWritersPerType() {
+        var type = new TypeReference<List<BatchEntryDTO<AppointmentDTO>>>() { }.getType();
+
+        assertThat(writers.writerFor(MediaTypes.APPLICATION_SMILE_TYPE, type))
+            .isSameAs(writers.writerFor(MediaTypes.APPLICATION_SMILE_TYPE, type))
+            .isNotSameAs(writers.writerFor(MediaTypes.APPLICATION_CBOR_TYPE, type));
+    }
+
+    @Test
+    void selectsRepresentationByAccept() {
+        assertThat(MediaTypes.select(List.of(MediaType.WILDCARD_TYPE)))
+            .isEqualTo(MediaType.APPLICATION_JSON_TYPE);
+        assertThat(MediaTypes.select(List.of(MediaTypes.APPLICATION_CBOR_TYPE,
+            MediaType.APPLICATION_JSON_TYPE))).isEqualTo(MediaTypes.APPLICATION_CBOR_TYPE);
+        assertThat(MediaTypes.select(List.of(MediaType.TEXT_PLAIN_TYPE,
+            MediaTypes.APPLICATION_SMILE_TYPE))).isEqualTo(MediaTypes.APPLICATION_SMILE_TYPE);
+        assertThat(MediaTypes.select(List.of(MediaType.TEXT_PLAIN_TYPE)))
+            .isEqualTo(MediaType.APPLICATION_JSON_TYPE);
+    }
+}
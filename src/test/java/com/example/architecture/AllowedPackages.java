@@ -58,6 +58,7 @@ class AllowedPackages {
     }
 
     AllowedPackages testing() {
+        packageIdentifiers.add("com.sun.net.httpserver..");
         packageIdentifiers.add("com.tngtech.archunit..");
         packageIdentifiers.add("io.restassured..");
         packageIdentifiers.add("junit.framework..");
@@ -71,7 +72,10 @@ class AllowedPackages {
     // Add allowed packages here:
     AllowedPackages allowedPackages() {
         packageIdentifiers.add("an.awesome.pipelinr..");
+        packageIdentifiers.add("com.github.benmanes.caffeine..");
         packageIdentifiers.add("com.google..");
+        packageIdentifiers.add("io.agroal..");
+        packageIdentifiers.add("org.flywaydb..");
         packageIdentifiers.add("io.swagger..");
         return this;
     }
@@ -1,8 +1,16 @@
 package com.example.architecture;
 
+import java.util.Set;
+import an.awesome.pipelinr.Command;
+import com.example.business.config.NativeImageConfiguration;
+import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.junit.AnalyzeClasses;
 import com.tngtech.archunit.junit.ArchTest;
+import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.SimpleConditionEvent;
+import io.quarkus.runtime.annotations.RegisterForReflection;
 import org.eclipse.microprofile.rest.client.ext.ClientHeadersFactory;
 import org.eclipse.microprofile.rest.client.ext.ResponseExceptionMapper;
 import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
@@ -97,8 +105,26 @@ class ArchitectureTest {
         .resideInAnyPackage("org.jboss.logging..")
         .because("Use @Slf4j annotation instead");
 
+    @ArchTest
+    static final ArchRule handlersShouldBeRegisteredForReflection = classes().that()
+        .implement(Command.Handler.class).and().areNotInterfaces()
+        .should(beRegisteredForReflectionBy(NativeImageConfiguration.class))
+        .because("the pipeline resolves the command type of handlers by reflection");
+
     @ArchTest
     static final ArchRule interfacesShouldNotHaveInterfaceInName =
         noClasses().that().areInterfaces().should()
             .haveSimpleNameContaining("Interface");
+
+    private static ArchCondition<JavaClass> beRegisteredForReflectionBy(Class<?> configuration) {
+        var targets = Set.of(configuration.getAnnotation(RegisterForReflection.class).targets());
+        return new ArchCondition<>("be registered for reflection by " + configuration.getSimpleName()) {
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+                var registered = targets.stream().anyMatch(target -> target.getName().equals(item.getName()));
+                events.add(new SimpleConditionEvent(item, registered,
+                    item.getName() + " is not registered by " + configuration.getSimpleName()));
+            }
+        };
+    }
 }
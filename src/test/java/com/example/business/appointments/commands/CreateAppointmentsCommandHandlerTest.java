@@ -0,0 +1,80 @@
+package com.example.business.appointments.commands;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import com.example.business.appointments.ReactiveAppointmentRepository;
+import com.example.core.exceptions.ErrorCode;
+import com.example.core.exceptions.InfrastructureException;
+import com.example.core.models.Appointment;
+import com.example.core.primitives.results.Result;
+import io.smallrye.mutiny.Uni;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CreateAppointmentsCommandHandlerTest {
+    private final ReactiveAppointmentRepository repository =
+        mock(ReactiveAppointmentRepository.class);
+
+    private final CreateAppointmentsCommandHandler handler = handler(2);
+
+    @Test
+    void storesRejectedChunkOneByOne() {
+        when(repository.createAppointments(anyList()))
+            .thenReturn(failure(ErrorCode.INF_DB_CONSTRAINT_VIOLATION));
+        when(repository.createAppointment(any())).thenAnswer(invocation -> {
+            Appointment appointment = invocation.getArgument(0);
+            return "Rejected".equals(appointment.title())
+                ? failure(ErrorCode.INF_DB_CONSTRAINT_VIOLATION)
+                : Uni.createFrom().item(Result.ok(appointment));
+        });
+
+        var results = handle(appointment("Stored"), appointment("Rejected"));
+
+        assertThat(results).extracting(Result::isSuccess).containsExactly(true, false);
+        verify(repository, times(2)).createAppointment(any());
+    }
+
+    @Test
+    void failsChunkWithItsInfrastructureError() {
+        when(repository.createAppointments(anyList()))
+            .thenReturn(failure(ErrorCode.INF_DB_UNKNOWN))
+            .thenAnswer(invocation -> Uni.createFrom().item(Result.ok(invocation.getArgument(0))));
+
+        var results = handle(appointment("First"), appointment("Second"), appointment("Third"));
+
+        assertThat(results).extracting(Result::isSuccess).containsExactly(false, false, true);
+        assertThat(results.get(0).getError()).isSameAs(results.get(1).getError());
+        assertThat(results.get(0).getError().getErrorCode()).isEqualTo(ErrorCode.INF_DB_UNKNOWN);
+        verify(repository, never()).createAppointment(any());
+    }
+
+    private List<Result<Appointment>> handle(Appointment... appointments) {
+        return handler.handle(new CreateAppointmentsCommand(List.of(appointments)))
+            .await().atMost(Duration.ofSeconds(1))
+            .getOk();
+    }
+
+    private CreateAppointmentsCommandHandler handler(int chunkSize) {
+        var commandHandler = new CreateAppointmentsCommandHandler();
+        commandHandler.appointmentRepository = repository;
+        commandHandler.chunkSize = chunkSize;
+        return commandHandler;
+    }
+
+    private static <T> Uni<Result<T>> failure(ErrorCode errorCode) {
+        return Uni.createFrom().item(Result.fail(
+            new InfrastructureException(errorCode, "Failed to create appointments.", null)));
+    }
+
+    private static Appointment appointment(String title) {
+        return new Appointment(null, ZonedDateTime.now(), "Room 1", title, null, null, null);
+    }
+}
@@ -0,0 +1,228 @@
+package com.example.business.middlewares;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import an.awesome.pipelinr.Command;
+import com.example.business.appointments.ReactiveAppointmentRepository;
+import com.example.business.appointments.queries.GetAppointmentQuery;
+import com.example.core.exceptions.ErrorCode;
+import com.example.core.exceptions.InfrastructureException;
+import com.example.core.exceptions.NotFoundException;
+import com.example.core.models.Appointment;
+import com.example.core.primitives.results.Result;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CoalescingMiddlewareTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final ReactiveAppointmentRepository repository =
+        mock(ReactiveAppointmentRepository.class);
+
+    private final CompletableFuture<Result<Appointment>> inFlight = new CompletableFuture<>();
+
+    @Test
+    void passesQueryToHandlerWhenNothingIsInFlight() {
+        var middleware = middleware(Duration.ofMinutes(1), 100);
+        var id = UUID.randomUUID();
+        Uni<Result<Appointment>> handled = Uni.createFrom().item(Result.ok(appointment(id)));
+
+        Uni<Result<Appointment>> result = middleware.invoke(new GetAppointmentQuery(id),
+            () -> handled);
+
+        assertThat(result.await().atMost(Duration.ofSeconds(1)).getOk().id()).isEqualTo(id);
+        assertThat(middleware.invoke(new GetAppointmentQuery(id), () -> handled)
+            .await().atMost(Duration.ofSeconds(1)).getOk().id()).isEqualTo(id);
+        verify(repository, never()).getAppointment(any());
+    }
+
+    @Test
+    void passesQueryToHandlerAfterUnsubscribedQuery() {
+        var middleware = middleware(Duration.ofMinutes(1), 100);
+        var id = UUID.randomUUID();
+        Uni<Result<Appointment>> handled = Uni.createFrom().item(Result.ok(appointment(id)));
+
+        middleware.invoke(new GetAppointmentQuery(id), () -> handled);
+        Uni<Result<Appointment>> result = middleware.invoke(new GetAppointmentQuery(id),
+            () -> handled);
+
+        assertThat(result.await().atMost(Duration.ofSeconds(1)).getOk().id()).isEqualTo(id);
+        verify(repository, never()).getAppointment(any());
+    }
+
+    @Test
+    void passesQueryToHandlerAfterQuerySubscribedTwice() {
+        var middleware = middleware(Duration.ofMinutes(1), 100);
+        var id = UUID.randomUUID();
+        Uni<Result<Appointment>> handled = Uni.createFrom().item(Result.ok(appointment(id)));
+
+        Uni<Result<Appointment>> first = middleware.invoke(new GetAppointmentQuery(id),
+            () -> handled);
+        first.await().atMost(Duration.ofSeconds(1));
+        first.await().atMost(Duration.ofSeconds(1));
+        Uni<Result<Appointment>> result = middleware.invoke(new GetAppointmentQuery(id),
+            () -> handled);
+
+        assertThat(result.await().atMost(Duration.ofSeconds(1)).getOk().id()).isEqualTo(id);
+        verify(repository, never()).getAppointment(any());
+    }
+
+    @Test
+    void readsConcurrentQueriesWithOneCall() {
+        var middleware = middleware(Duration.ofMillis(50), 100);
+        var existing = UUID.randomUUID();
+        var missing = UUID.randomUUID();
+        when(repository.getAppointments(anyCollection())).thenAnswer(invocation -> Uni.createFrom()
+            .item(Result.ok(List.of(appointment(existing)))));
+
+        startRead(middleware);
+        var results = send(middleware, existing, missing, existing);
+
+        assertThat(results.get(0).await().indefinitely().getOk().id()).isEqualTo(existing);
+        assertThat(results.get(1).await().indefinitely().getError())
+            .isInstanceOf(NotFoundException.class);
+        assertThat(results.get(2).await().indefinitely().getOk().id()).isEqualTo(existing);
+        verify(repository, times(1)).getAppointments(List.of(existing, missing));
+        assertThat(batchSize("window").count()).isEqualTo(1);
+        assertThat(batchSize("window").totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    void readsFullBatchesWithoutWaitingForTheWindow() {
+        var middleware = middleware(Duration.ofMinutes(1), 2);
+        var ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(repository.getAppointments(anyCollection())).thenAnswer(invocation -> Uni.createFrom()
+            .item(Result.ok(invocation.<Collection<UUID>>getArgument(0).stream()
+                .map(CoalescingMiddlewareTest::appointment)
+                .toList())));
+
+        startRead(middleware);
+        var results = send(middleware, ids.get(0), ids.get(1));
+
+        assertThat(results.get(1).await().atMost(Duration.ofSeconds(1)).getOk().id())
+            .isEqualTo(ids.get(1));
+        assertThat(batchSize("size").count()).isEqualTo(1);
+    }
+
+    @Test
+    void readsSingleQueriesById() {
+        var middleware = middleware(Duration.ofMillis(1), 100);
+        var id = UUID.randomUUID();
+        when(repository.getAppointment(id))
+            .thenReturn(Uni.createFrom().item(Result.ok(appointment(id))));
+
+        startRead(middleware);
+        var result = send(middleware, id).getFirst().await().indefinitely();
+
+        assertThat(result.getOk().id()).isEqualTo(id);
+        verify(repository, never()).getAppointments(anyCollection());
+    }
+
+    @Test
+    void passesQueryToHandlerAfterReadsCompleted() {
+        var middleware = middleware(Duration.ofMillis(1), 100);
+        var id = UUID.randomUUID();
+        when(repository.getAppointment(id))
+            .thenReturn(Uni.createFrom().item(Result.ok(appointment(id))));
+        var read = startRead(middleware);
+        send(middleware, id).getFirst().await().indefinitely();
+
+        inFlight.complete(Result.ok(appointment(id)));
+        read.await().indefinitely();
+        Uni<Result<Appointment>> result = middleware.invoke(new GetAppointmentQuery(id),
+            () -> Uni.createFrom().item(Result.ok(appointment(id))));
+
+        assertThat(result.await().indefinitely().getOk().id()).isEqualTo(id);
+        verify(repository, times(1)).getAppointment(id);
+    }
+
+    @Test
+    void failsAllQueriesOfAFailedBatch() {
+        var middleware = middleware(Duration.ofMillis(50), 100);
+        var error = new InfrastructureException(ErrorCode.INF_DB_UNKNOWN, "Failed.",
+            new IllegalStateException());
+        when(repository.getAppointments(anyCollection()))
+            .thenReturn(Uni.createFrom().item(Result.fail(error)));
+
+        startRead(middleware);
+        var results = send(middleware, UUID.randomUUID(), UUID.randomUUID());
+
+        for (var result : results) {
+            assertThat(result.await().indefinitely().getError()).isSameAs(error);
+        }
+    }
+
+    @Test
+    void passesOtherCommandsAndDisabledCoalescing() {
+        var id = UUID.randomUUID();
+        var handled = Uni.createFrom().item(Result.ok(appointment(id)));
+
+        var disabled = middleware(Duration.ZERO, 100);
+
+        assertThat(disabled.invoke(new GetAppointmentQuery(id), () -> handled)).isSameAs(handled);
+        assertThat(middleware(Duration.ofMillis(1), 100).invoke(new Ping(), () -> "pong"))
+            .isEqualTo("pong");
+        verify(repository, never()).getAppointment(any());
+    }
+
+    private CoalescingMiddleware middleware(Duration window, int maxBatchSize) {
+        return new CoalescingMiddleware(repository, registry, window, maxBatchSize);
+    }
+
+    /**
+     * Sends a query, that is passed to the handler and read until {@link #inFlight} completes, so
+     * the following queries are coalesced.
+     */
+    private Uni<Result<Appointment>> startRead(CoalescingMiddleware middleware) {
+        Uni<Result<Appointment>> result = middleware.invoke(
+            new GetAppointmentQuery(UUID.randomUUID()),
+            () -> Uni.createFrom().completionStage(inFlight));
+        result = result.memoize().indefinitely();
+        result.subscribe().with(item -> { });
+        return result;
+    }
+
+    /**
+     * Sends the queries and subscribes to all of them, before any result is awaited.
+     */
+    private static List<Uni<Result<Appointment>>> send(CoalescingMiddleware middleware,
+        UUID... ids) {
+        var results = new ArrayList<Uni<Result<Appointment>>>();
+        for (var id : ids) {
+            Uni<Result<Appointment>> result = middleware.invoke(new GetAppointmentQuery(id),
+                () -> {
+                    throw new AssertionError("The handler must not be invoked.");
+                });
+            results.add(result.memoize().indefinitely());
+        }
+        results.forEach(result -> result.subscribe().with(item -> { }));
+        return results;
+    }
+
+    private DistributionSummary batchSize(String trigger) {
+        return registry.get("pipeline.coalescing.batch.size").tag("trigger", trigger).summary();
+    }
+
+    private static Appointment appointment(UUID id) {
+        return new Appointment(id, ZonedDateTime.now(), "Room 1", "Title", null, null,
+            ZonedDateTime.now());
+    }
+
+    record Ping() implements Command<String> {
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.business.middlewares;
+
+import an.awesome.pipelinr.Command;
+import com.example.core.exceptions.ErrorCode;
+import com.example.core.exceptions.NotFoundException;
+import com.example.core.primitives.results.Result;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+
+class MetricsMiddlewareTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final MetricsMiddleware middleware = new MetricsMiddleware(registry);
+
+    @Test
+    void countsFailedResultsByErrorCode() {
+        middleware.invoke(new Ping(), () -> Result.fail(
+            new NotFoundException(ErrorCode.DOM_NOT_FOUND, "Not found.")));
+        middleware.invoke(new Ping(), () -> Result.ok("pong"));
+
+        assertThat(count("failure", "DOM_NOT_FOUND")).isEqualTo(1);
+        assertThat(count("success", "none")).isEqualTo(1);
+        assertThat(registry.get("pipeline.commands").tag("command", "Ping").timer().count())
+            .isEqualTo(2);
+    }
+
+    @Test
+    void measuresUniResultsOnSubscription() {
+        var uni = middleware.invoke(new AsyncPing(),
+            () -> Uni.createFrom().item(Result.ok("pong")));
+
+        assertThat(registry.get("pipeline.commands").tag("command", "AsyncPing").timer().count())
+            .isZero();
+        uni.await().indefinitely();
+
+        assertThat(registry.get("pipeline.commands").tag("command", "AsyncPing").timer().count())
+            .isEqualTo(1);
+        assertThat(registry.get("pipeline.commands.active").tag("command", "AsyncPing").gauge()
+            .value()).isZero();
+    }
+
+    @Test
+    void doesNotCountUnsubscribedUniResultsAsActive() {
+        var uni = middleware.invoke(new AsyncPing(),
+            () -> Uni.createFrom().item(Result.ok("pong")));
+
+        assertThat(active()).isZero();
+        uni.await().indefinitely();
+        uni.await().indefinitely();
+
+        assertThat(registry.get("pipeline.commands").tag("command", "AsyncPing").timer().count())
+            .isEqualTo(2);
+        assertThat(active()).isZero();
+    }
+
+    @Test
+    void countsCancelledUniResultsWithoutLatency() {
+        var uni = middleware.invoke(new AsyncPing(),
+            () -> Uni.createFrom().<Result<String>>nothing());
+
+        var subscription = uni.subscribe().with(item -> { });
+        assertThat(active()).isEqualTo(1);
+        subscription.cancel();
+
+        assertThat(registry.get("pipeline.commands").tag("command", "AsyncPing").timer().count())
+            .isZero();
+        assertThat(count("AsyncPing", "cancelled", "none")).isEqualTo(1);
+        assertThat(count("AsyncPing", "success", "none")).isZero();
+        assertThat(active()).isZero();
+    }
+
+    private double active() {
+        return registry.get("pipeline.commands.active").tag("command", "AsyncPing").gauge().value();
+    }
+
+    private double count(String outcome, String error) {
+        return count("Ping", outcome, error);
+    }
+
+    private double count(String command, String outcome, String error) {
+        return registry.get("pipeline.commands.results")
+            .tag("command", command)
+            .tag("outcome", outcome)
+            .tag("error", error)
+            .counter().count();
+    }
+
+    record Ping() implements Command<Result<String>> {
+    }
+
+    record AsyncPing() implements Command<Uni<Result<String>>> {
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.core.exceptions.base;
+
+import com.example.core.exceptions.ErrorCode;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+
+class DomainExceptionTest {
+    @Test
+    void createsStacklessException() {
+        var exception = new TestException(false);
+        exception.addSuppressed(new IllegalStateException());
+
+        assertThat(exception.getStackTrace()).isEmpty();
+        assertThat(exception.getSuppressed()).isEmpty();
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.DOM_INVALID_STATE);
+        assertThat(exception.getErrorDate()).isNotNull();
+    }
+
+    @Test
+    void keepsStackTraceByDefault() {
+        var exception = new TestException(true);
+
+        assertThat(exception.getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    void identifiesEachException() {
+        assertThat(new TestException(false).getErrorId())
+            .isNotEqualTo(new TestException(false).getErrorId());
+    }
+
+    private static final class TestException extends DomainException {
+        TestException(boolean writableStackTrace) {
+            super(ErrorCode.DOM_INVALID_STATE, "test", writableStackTrace);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.core.exceptions.base;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+
+class ErrorIdsTest {
+    @Test
+    void encodesNodeAndSequence() {
+        var ids = new ErrorIds(0xCAFE_BABEL, 0x0000_00FFL);
+
+        assertThat(ids.nextId()).isEqualTo("cafebabe000000ff");
+        assertThat(ids.nextId()).isEqualTo("cafebabe00000100");
+    }
+
+    @Test
+    void wrapsSequenceWithinNode() {
+        var ids = new ErrorIds(1, 0xFFFF_FFFFL);
+
+        assertThat(ids.nextId()).isEqualTo("00000001ffffffff");
+        assertThat(ids.nextId()).isEqualTo("0000000100000000");
+    }
+
+    @Test
+    void handsOutBlocksToPlatformThreads() throws Exception {
+        var ids = new ErrorIds(1, 0);
+        var first = ids.nextId();
+
+        var other = Thread.ofPlatform().start(() -> assertThat(ids.nextId())
+            .isEqualTo(String.format("00000001%08x", ErrorIds.BLOCK_SIZE)));
+        other.join();
+
+        assertThat(first).isEqualTo("0000000100000000");
+        // The block of this thread is not used up by the other thread
+        assertThat(ids.nextId()).isEqualTo("0000000100000001");
+    }
+
+    @Test
+    void incrementsSharedSequenceOnVirtualThreads() throws Exception {
+        var ids = new ErrorIds(1, 0);
+        ids.nextId();
+        var virtual = new ArrayList<String>();
+
+        Thread.ofVirtual().start(() -> {
+            virtual.add(ids.nextId());
+            virtual.add(ids.nextId());
+        }).join();
+
+        assertThat(virtual).containsExactly(
+            String.format("00000001%08x", ErrorIds.BLOCK_SIZE),
+            String.format("00000001%08x", ErrorIds.BLOCK_SIZE + 1));
+    }
+
+    @Test
+    void generatesUniqueIdsAcrossThreads() throws Exception {
+        Set<String> generated = ConcurrentHashMap.newKeySet();
+        List<Future<?>> futures = new ArrayList<>();
+        try (var platform = Executors.newFixedThreadPool(8);
+            var virtual = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int task = 0; task < 64; task++) {
+                var executor = task % 2 == 0 ? platform : virtual;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        generated.add(ErrorIds.next());
+                    }
+                }));
+            }
+            for (var future : futures) {
+                future.get();
+            }
+        }
+
+        assertThat(generated).hasSize(64 * 1000).allMatch(id -> id.matches("[0-9a-f]{16}"));
+    }
+}
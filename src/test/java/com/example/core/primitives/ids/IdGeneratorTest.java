@@ -0,0 +1,34 @@
+package com.example.core.primitives.ids;
+
+import java.util.UUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+
+class IdGeneratorTest {
+    @Test
+    void generatesVersion7Ids() {
+        var id = IdGenerator.next();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void containsTimestamp() {
+        var before = System.currentTimeMillis();
+        var id = IdGenerator.next();
+
+        assertThat(id.getMostSignificantBits() >>> 16).isGreaterThanOrEqualTo(before);
+    }
+
+    @Test
+    void generatesIncreasingIds() {
+        UUID previous = IdGenerator.next();
+        for (int i = 0; i < 100_000; i++) {
+            var next = IdGenerator.next();
+            // UUID.compareTo compares signed longs, the database compares the unsigned bytes
+            assertThat(previous.toString()).isLessThan(next.toString());
+            previous = next;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.core.primitives.results;
+
+import com.example.core.exceptions.ErrorCode;
+import com.example.core.exceptions.ResultEmptyException;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import org.junit.jupiter.api.Test;
+
+class ResultTest {
+    @Test
+    void reportsEachMisuseWithItsOwnErrorId() {
+        var result = Result.<String>fail(ResultEmptyException.stackless(
+            ErrorCode.DOM_INVALID_STATE, "failed"));
+
+        var first = catchThrowableOfType(result::getOk, ResultEmptyException.class);
+        var second = catchThrowableOfType(result::getOk, ResultEmptyException.class);
+
+        assertThat(first).isNotSameAs(second);
+        assertThat(first.getErrorId()).isNotEqualTo(second.getErrorId());
+        assertThat(first.getStackTrace()).isEmpty();
+    }
+
+    @Test
+    void sharesEmptySuccess() {
+        var result = ActionResult.ok();
+
+        assertThat(result).isSameAs(ActionResult.ok()).isNotInstanceOf(Result.class);
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.<String>fold(() -> "ok", error -> "failed")).isEqualTo("ok");
+        assertThat(catchThrowableOfType(result::getError, ResultEmptyException.class)).isNotNull();
+    }
+
+    @Test
+    void mapsPayload() {
+        assertThat(Result.ok(1).map(value -> value + 1).getOk()).isEqualTo(2);
+    }
+}
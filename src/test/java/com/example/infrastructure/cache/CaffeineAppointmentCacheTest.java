@@ -0,0 +1,168 @@
+package com.example.infrastructure.cache;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import com.example.business.appointments.AppointmentCache.Statistics;
+import com.example.core.exceptions.ErrorCode;
+import com.example.core.exceptions.NotFoundException;
+import com.example.core.models.Appointment;
+import com.example.core.primitives.results.Result;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+
+class CaffeineAppointmentCacheTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final CaffeineAppointmentCache cache =
+        new CaffeineAppointmentCache(100, Duration.ofMinutes(1), registry);
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void cachesLoadedAppointments() {
+        var id = UUID.randomUUID();
+
+        cache.get(id, this::load);
+        var result = cache.get(id, this::load);
+
+        assertThat(result.getOk().id()).isEqualTo(id);
+        assertThat(loads).hasValue(1);
+        assertThat(cache.getStatistics()).isEqualTo(new Statistics(1, 1, 0));
+    }
+
+    @Test
+    void publishesMetrics() {
+        var id = UUID.randomUUID();
+
+        cache.get(id, this::load);
+        cache.get(id, this::load);
+
+        assertThat(gets("hit")).isEqualTo(1);
+        assertThat(gets("miss")).isEqualTo(1);
+        assertThat(registry.get("cache.evictions").tag("cache", "appointments").functionCounter()
+            .count()).isZero();
+    }
+
+    @Test
+    void doesNotCacheFailures() {
+        var id = UUID.randomUUID();
+
+        cache.get(id, this::loadMissing);
+        var result = cache.get(id, this::loadMissing);
+
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void loadsOnlyMissingAppointmentsOfAll() {
+        var cached = UUID.randomUUID();
+        var missing = UUID.randomUUID();
+        var loaded = new ArrayList<Collection<UUID>>();
+        cache.get(cached, this::load);
+
+        var result = cache.getAll(List.of(cached, missing), ids -> {
+            loaded.add(ids);
+            return Result.ok(List.of(load(missing).getOk()));
+        });
+
+        assertThat(result.getOk()).extracting(Appointment::id)
+            .containsExactlyInAnyOrder(cached, missing);
+        assertThat(loaded).containsExactly(List.of(missing));
+        assertThat(cache.getIfPresent(missing)).isPresent();
+    }
+
+    @Test
+    void skipsNonExistingAppointmentsOfAll() {
+        var id = UUID.randomUUID();
+
+        var result = cache.getAll(List.of(id), ids -> Result.ok(List.of()));
+
+        assertThat(result.getOk()).isEmpty();
+        assertThat(cache.getIfPresent(id)).isEmpty();
+    }
+
+    @Test
+    void getsCachedAppointmentsWithoutLoading() {
+        var id = UUID.randomUUID();
+
+        assertThat(cache.getIfPresent(id)).isEmpty();
+        cache.get(id, this::load);
+
+        assertThat(cache.getIfPresent(id)).hasValueSatisfying(
+            appointment -> assertThat(appointment.id()).isEqualTo(id));
+        assertThat(loads).hasValue(1);
+        assertThat(cache.getStatistics()).isEqualTo(new Statistics(0, 1, 0));
+    }
+
+    @Test
+    void reloadsInvalidatedAppointments() {
+        var id = UUID.randomUUID();
+
+        cache.get(id, this::load);
+        cache.invalidate(List.of(id));
+        cache.get(id, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void collapsesConcurrentMisses() throws Exception {
+        var id = UUID.randomUUID();
+        var loading = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            var results = new ArrayList<Future<Result<Appointment>>>();
+            results.add(executor.submit(() -> cache.get(id, key -> {
+                loading.countDown();
+                await(release);
+                return load(key);
+            })));
+            // The first load is in progress, all other lookups wait for it
+            loading.await();
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(() -> cache.get(id, this::load)));
+            }
+            release.countDown();
+
+            for (var result : results) {
+                assertThat(result.get().getOk().id()).isEqualTo(id);
+            }
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    private Result<Appointment> load(UUID id) {
+        loads.incrementAndGet();
+        return Result.ok(new Appointment(id, ZonedDateTime.now(), "Room 1", "Title", null, null,
+            ZonedDateTime.now()));
+    }
+
+    private Result<Appointment> loadMissing(UUID id) {
+        loads.incrementAndGet();
+        return Result.fail(new NotFoundException(ErrorCode.DOM_NOT_FOUND, "Not found."));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double gets(String result) {
+        return registry.get("cache.gets").tags("cache", "appointments", "result", result)
+            .functionCounter().count();
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.infrastructure.clients.locations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import com.example.core.exceptions.ErrorCode;
+import com.example.core.exceptions.InfrastructureException;
+import com.example.core.exceptions.NotFoundException;
+import com.example.core.exceptions.ServiceUnavailableException;
+import com.example.core.exceptions.base.DomainException;
+import com.example.core.models.Location;
+import com.example.core.primitives.results.Result;
+import io.smallrye.mutiny.Uni;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
+import org.eclipse.microprofile.faulttolerance.exceptions.CircuitBreakerOpenException;
+import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the {@link LocationServiceAdapter} with a mocked client, without the location service
+ * stub.
+ */
+class LocationServiceAdapterMockedTest {
+    private final LocationServiceClient client = mock(LocationServiceClient.class);
+
+    private final LocationServiceAdapter adapter = new LocationServiceAdapter(client,
+        new LocationResponseMapperImpl(), 100, Duration.ofMinutes(1));
+
+    @Test
+    void sharesConcurrentCalls() {
+        var response = new CompletableFuture<LocationResponse>();
+        when(client.getLocation("Room 1")).thenReturn(Uni.createFrom().completionStage(response));
+
+        var results = new ArrayList<Uni<Result<Location>>>();
+        for (int i = 0; i < 10; i++) {
+            var result = adapter.getLocation("Room 1").memoize().indefinitely();
+            result.subscribe().with(item -> { });
+            results.add(result);
+        }
+        response.complete(new LocationResponse("Room 1", "A", 1, 12));
+
+        for (var result : results) {
+            assertThat(result.await().indefinitely().getOk())
+                .isEqualTo(new Location("Room 1", "A", 1, 12));
+        }
+        verify(client, times(1)).getLocation("Room 1");
+    }
+
+    @Test
+    void doesNotCacheFailures() {
+        when(client.getLocation("Room 1"))
+            .thenReturn(Uni.createFrom().failure(new TimeoutException()))
+            .thenReturn(Uni.createFrom().item(new LocationResponse("Room 1", "A", 1, 12)));
+
+        var failed = adapter.getLocation("Room 1").await().indefinitely();
+        var retried = adapter.getLocation("Room 1").await().indefinitely();
+
+        assertThat(failed.getError().getErrorCode()).isEqualTo(ErrorCode.INF_API_TIMEOUT);
+        assertThat(retried.getOk().name()).isEqualTo("Room 1");
+        verify(client, times(2)).getLocation("Room 1");
+    }
+
+    @Test
+    void mapsFailures() {
+        var notFound = new NotFoundException(ErrorCode.INF_API_NOTFOUND, "Not found.");
+
+        assertThat(LocationServiceAdapter.toDomainException("Room 1", notFound)).isSameAs(notFound);
+        assertThat(LocationServiceAdapter.toDomainException("Room 1", new TimeoutException()))
+            .isInstanceOf(ServiceUnavailableException.class)
+            .extracting(DomainException::getErrorCode).isEqualTo(ErrorCode.INF_API_TIMEOUT);
+        assertThat(LocationServiceAdapter.toDomainException("Room 1",
+            new CircuitBreakerOpenException()))
+            .isInstanceOf(ServiceUnavailableException.class)
+            .extracting(DomainException::getErrorCode).isEqualTo(ErrorCode.INF_API_UNAVAILABLE);
+        assertThat(LocationServiceAdapter.toDomainException("Room 1", new BulkheadException()))
+            .isInstanceOf(ServiceUnavailableException.class)
+            .extracting(DomainException::getErrorCode).isEqualTo(ErrorCode.INF_API_UNAVAILABLE);
+        assertThat(LocationServiceAdapter.toDomainException("Room 1",
+            new IllegalStateException()))
+            .isInstanceOf(InfrastructureException.class)
+            .extracting(DomainException::getErrorCode).isEqualTo(ErrorCode.INF_API_OPERATION_FAILED);
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.infrastructure.clients.locations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.UUID;
+import com.example.business.locations.LocationService;
+import com.example.core.exceptions.ErrorCode;
+import com.example.core.exceptions.NotFoundException;
+import com.example.core.exceptions.ServiceUnavailableException;
+import com.example.core.models.Location;
+import com.example.core.primitives.results.Result;
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+@QuarkusTest
+@QuarkusTestResource(value = LocationServiceStub.class, restrictToAnnotatedClass = true)
+class LocationServiceAdapterTest {
+    @Inject
+    LocationService locationService;
+
+    @AfterEach
+    void resetLatency() {
+        LocationServiceStub.setLatency(Duration.ZERO);
+    }
+
+    @Test
+    void getsLocation() {
+        var name = "Room " + UUID.randomUUID();
+
+        var result = get(name);
+
+        assertThat(result.getOk()).isEqualTo(new Location(name, "A", 1, 12));
+    }
+
+    @Test
+    void cachesLocations() {
+        var name = "Room " + UUID.randomUUID();
+        var requests = LocationServiceStub.getRequests();
+
+        get(name);
+        get(name);
+
+        assertThat(LocationServiceStub.getRequests() - requests).isEqualTo(1);
+    }
+
+    @Test
+    void sharesConcurrentCalls() {
+        var name = "Room " + UUID.randomUUID();
+        var requests = LocationServiceStub.getRequests();
+        LocationServiceStub.setLatency(Duration.ofMillis(100));
+
+        var results = new ArrayList<Uni<Result<Location>>>();
+        for (int i = 0; i < 10; i++) {
+            results.add(locationService.getLocation(name).memoize().indefinitely());
+        }
+        results.forEach(result -> result.subscribe().with(item -> { }));
+
+        for (var result : results) {
+            assertThat(result.await().indefinitely().getOk().name()).isEqualTo(name);
+        }
+        assertThat(LocationServiceStub.getRequests() - requests).isEqualTo(1);
+    }
+
+    @Test
+    void mapsMissingLocations() {
+        var result = get("missing " + UUID.randomUUID());
+
+        assertThat(result.getError()).isInstanceOf(NotFoundException.class);
+        assertThat(result.getError().getErrorCode()).isEqualTo(ErrorCode.INF_API_NOTFOUND);
+    }
+
+    @Test
+    void timesOutSlowCalls() {
+        LocationServiceStub.setLatency(Duration.ofSeconds(2));
+        var start = System.nanoTime();
+
+        var result = get("Room " + UUID.randomUUID());
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+        assertThat(result.getError()).isInstanceOf(ServiceUnavailableException.class);
+        assertThat(result.getError().getErrorCode()).isEqualTo(ErrorCode.INF_API_TIMEOUT);
+    }
+
+    private Result<Location> get(String name) {
+        return locationService.getLocation(name).await().atMost(Duration.ofSeconds(5));
+    }
+}
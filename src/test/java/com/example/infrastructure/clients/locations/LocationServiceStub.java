@@ -0,0 +1,83 @@
+package com.example.infrastructure.clients.locations;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.quarkus.test.common.QuarkusTestResourceLifecycleManager;
+
+/**
+ * Local stub of the location service. Every location exists, except names starting with
+ * {@code missing}. The latency of all responses can be changed by the tests with
+ * {@link #setLatency(Duration)}, the requests are handled on virtual threads, so slow responses do
+ * not limit the concurrency of the stub.
+ */
+public class LocationServiceStub implements QuarkusTestResourceLifecycleManager {
+    private static final String LOCATION = """
+        {"name": "%s", "building": "A", "floor": 1, "capacity": 12}
+        """;
+
+    private static final AtomicInteger REQUESTS = new AtomicInteger();
+
+    private static volatile Duration latency = Duration.ZERO;
+
+    private HttpServer server;
+
+    @Override
+    public Map<String, String> start() {
+        try {
+            server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to start the location service stub.", e);
+        }
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/locations/", LocationServiceStub::handle);
+        server.start();
+        return Map.of("quarkus.rest-client.location-service.url",
+            "http://localhost:" + server.getAddress().getPort());
+    }
+
+    @Override
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    /**
+     * Sets the latency of all following responses.
+     */
+    public static void setLatency(Duration latency) {
+        LocationServiceStub.latency = latency;
+    }
+
+    /**
+     * Gets the number of requests, that were received since startup.
+     */
+    public static int getRequests() {
+        return REQUESTS.get();
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        REQUESTS.incrementAndGet();
+        try (exchange) {
+            Thread.sleep(latency);
+            var name = exchange.getRequestURI().getPath().substring("/locations/".length());
+            if (name.startsWith("missing")) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            var body = LOCATION.formatted(name).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
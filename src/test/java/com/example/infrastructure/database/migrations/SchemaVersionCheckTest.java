@@ -0,0 +1,54 @@
+package com.example.infrastructure.database.migrations;
+
+import java.util.Map;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import org.junit.jupiter.api.Test;
+
+@QuarkusTest
+@TestProfile(SchemaVersionCheckTest.MigrationJob.class)
+class SchemaVersionCheckTest {
+    @Test
+    void isNotPartOfTheReadiness() {
+        given()
+            .when().get("/q/health/ready")
+            .then()
+            .statusCode(200)
+            .body("checks.name", not(hasItem("Database schema version")));
+    }
+
+    @Test
+    void reportsTheSchemaVersion() throws InterruptedException {
+        // The check runs in the background after startup
+        for (int attempt = 0; attempt < 50 && isChecking(); attempt++) {
+            Thread.sleep(100);
+        }
+
+        given()
+            .when().get("/q/health/well")
+            .then()
+            .body("checks.find { it.name == 'Database schema version' }.data.pending", notNullValue());
+    }
+
+    private static boolean isChecking() {
+        return "checking".equals(given().when().get("/q/health/well").jsonPath()
+            .getString("checks.find { it.name == 'Database schema version' }.data.state"));
+    }
+
+    /**
+     * Production mode: the migrations are not run at startup.
+     */
+    public static class MigrationJob implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                "quarkus.flyway.migrate-at-start", "false",
+                "quarkus.flyway.clean-at-start", "false");
+        }
+    }
+}
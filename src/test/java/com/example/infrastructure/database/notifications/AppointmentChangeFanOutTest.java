@@ -0,0 +1,154 @@
+package com.example.infrastructure.database.notifications;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+import com.example.core.models.AppointmentChange;
+import com.example.core.models.AppointmentChange.Type;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.vertx.core.json.JsonObject;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+
+class AppointmentChangeFanOutTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final AppointmentChangeFanOut fanOut = new AppointmentChangeFanOut(3, 2, registry);
+
+    @Test
+    void deliversChangesToAllSubscribers() {
+        var first = fanOut.subscribe(null).subscribe()
+            .withSubscriber(AssertSubscriber.create(10));
+        var second = fanOut.subscribe(null).subscribe()
+            .withSubscriber(AssertSubscriber.create(10));
+
+        fanOut.publish(change(1));
+        fanOut.publish(change(2));
+
+        assertThat(ids(first)).containsExactly(1L, 2L);
+        assertThat(ids(second)).containsExactly(1L, 2L);
+        assertThat(subscribers()).isEqualTo(2);
+    }
+
+    @Test
+    void resumesAfterLastEventId() {
+        fanOut.publish(change(1));
+        fanOut.publish(change(2));
+        fanOut.publish(change(3));
+
+        var subscriber = fanOut.subscribe(1L).subscribe()
+            .withSubscriber(AssertSubscriber.create(10));
+        fanOut.publish(change(4));
+
+        assertThat(ids(subscriber)).containsExactly(2L, 3L, 4L);
+    }
+
+    @Test
+    void resetsSubscriberWithUnknownLastEventId() {
+        for (long id = 1; id <= 4; id++) {
+            fanOut.publish(change(id));
+        }
+
+        var subscriber = fanOut.subscribe(1L).subscribe()
+            .withSubscriber(AssertSubscriber.create(10));
+
+        assertThat(subscriber.getItems())
+            .containsExactly(AppointmentChange.reset(4));
+    }
+
+    @Test
+    void completesSubscriberThatFellBehind() {
+        var slow = fanOut.subscribe(null).subscribe().withSubscriber(AssertSubscriber.create(0));
+        var fast = fanOut.subscribe(null).subscribe()
+            .withSubscriber(AssertSubscriber.create(10));
+
+        for (long id = 1; id <= 4; id++) {
+            fanOut.publish(change(id));
+        }
+        slow.request(10);
+
+        slow.assertCompleted();
+        assertThat(ids(slow)).containsExactly(1L, 2L);
+        assertThat(ids(fast)).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(subscribers()).isEqualTo(1);
+        assertThat(registry.get("appointment.changes.disconnected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void resetsSubscribersAfterReconnect() {
+        fanOut.publish(change(1));
+        var subscriber = fanOut.subscribe(null).subscribe()
+            .withSubscriber(AssertSubscriber.create(10));
+
+        fanOut.reset();
+        var reset = subscriber.getItems().getFirst();
+        var resumed = fanOut.subscribe(reset.id()).subscribe()
+            .withSubscriber(AssertSubscriber.create(10));
+        fanOut.publish(change(2));
+
+        assertThat(reset.type()).isEqualTo(Type.RESET);
+        assertThat(reset.id()).isNegative();
+        assertThat(ids(resumed)).containsExactly(2L);
+    }
+
+    @Test
+    void resetsSubscriberThatResumesBeforeReset() {
+        fanOut.publish(change(1));
+        fanOut.reset();
+        fanOut.publish(change(2));
+
+        var resumed = fanOut.subscribe(1L).subscribe()
+            .withSubscriber(AssertSubscriber.create(10));
+
+        assertThat(resumed.getItems()).extracting(AppointmentChange::type)
+            .containsExactly(Type.RESET);
+        assertThat(ids(resumed)).containsExactly(2L);
+    }
+
+    @Test
+    void givesEveryResetItsOwnId() {
+        var subscriber = fanOut.subscribe(null).subscribe()
+            .withSubscriber(AssertSubscriber.create(10));
+
+        fanOut.reset();
+        fanOut.reset();
+
+        assertThat(ids(subscriber)).doesNotHaveDuplicates().allMatch(id -> id < 0);
+    }
+
+    @Test
+    void removesCancelledSubscribers() {
+        var subscriber = fanOut.subscribe(null).subscribe()
+            .withSubscriber(AssertSubscriber.create(10));
+
+        subscriber.cancel();
+
+        assertThat(subscribers()).isZero();
+    }
+
+    @Test
+    void mapsNotifications() {
+        var id = UUID.randomUUID();
+        var change = AppointmentChangeListener.toAppointmentChange(new JsonObject()
+            .put("id", 7)
+            .put("operation", "DELETE")
+            .put("appointmentId", id.toString())
+            .put("date", "2026-10-17T10:15:00.5+02:00"));
+
+        assertThat(change).isEqualTo(new AppointmentChange(7, Type.DELETED, id,
+            ZonedDateTime.parse("2026-10-17T10:15:00.5+02:00")));
+    }
+
+    private double subscribers() {
+        return registry.get("appointment.changes.subscribers").gauge().value();
+    }
+
+    private static List<Long> ids(AssertSubscriber<AppointmentChange> subscriber) {
+        return subscriber.getItems().stream().map(AppointmentChange::id).toList();
+    }
+
+    private static AppointmentChange change(long id) {
+        return new AppointmentChange(id, Type.CREATED, UUID.randomUUID(), ZonedDateTime.now());
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.infrastructure.database.pool;
+
+import io.agroal.api.AgroalDataSource;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ConnectionPoolCheckTest {
+    private final AgroalDataSource dataSource = mock(AgroalDataSource.class, RETURNS_DEEP_STUBS);
+
+    private final ConnectionPoolCheck check = new ConnectionPoolCheck();
+
+    ConnectionPoolCheckTest() {
+        check.dataSource = dataSource;
+        check.saturationThreshold = 0.9;
+        when(dataSource.getConfiguration().connectionPoolConfiguration().maxSize()).thenReturn(10);
+    }
+
+    @Test
+    void isUpWithFreeConnections() {
+        pool(8, 0);
+
+        var response = check.call();
+
+        assertThat(response.getStatus()).isEqualTo(HealthCheckResponse.Status.UP);
+        assertThat(response.getData()).hasValueSatisfying(data -> assertThat(data)
+            .containsEntry("active", 8L)
+            .containsEntry("maxSize", 10L));
+    }
+
+    @Test
+    void isDownAboveTheThreshold() {
+        pool(9, 0);
+
+        assertThat(check.call().getStatus()).isEqualTo(HealthCheckResponse.Status.DOWN);
+    }
+
+    @Test
+    void isDownWhileThreadsAwaitConnections() {
+        pool(1, 1);
+
+        assertThat(check.call().getStatus()).isEqualTo(HealthCheckResponse.Status.DOWN);
+    }
+
+    private void pool(long active, long awaiting) {
+        when(dataSource.getMetrics().activeCount()).thenReturn(active);
+        when(dataSource.getMetrics().awaitingCount()).thenReturn(awaiting);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.infrastructure.database.repositories;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+import io.quarkus.test.TestTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+
+@QuarkusTest
+class AppointmentDatabaseRepositoryTest {
+    private static final ZonedDateTime FROM = ZonedDateTime.of(2024, 10, 14, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    @Inject
+    EntityManager entityManager;
+
+    @Test
+    @TestTransaction
+    void firstPageByDateUsesDateIndex() {
+        var plan = explain(AppointmentDatabaseRepository.FIRST_PAGE_BY_DATE, false);
+
+        assertThat(plan).contains("idx_appointment_date_id").doesNotContain("Sort");
+    }
+
+    @Test
+    @TestTransaction
+    void nextPageByDateUsesDateIndex() {
+        var plan = explain(AppointmentDatabaseRepository.NEXT_PAGE_BY_DATE, true);
+
+        assertThat(plan).contains("idx_appointment_date_id").doesNotContain("Sort");
+    }
+
+    @Test
+    @TestTransaction
+    void firstPageVersionByDateUsesDateIndex() {
+        var plan = explain(AppointmentDatabaseRepository.FIRST_PAGE_VERSION_BY_DATE, false);
+
+        // Only the rows of the page are sorted, to find its last id
+        assertThat(plan).contains("idx_appointment_date_id").doesNotContain("Seq Scan");
+    }
+
+    @Test
+    @TestTransaction
+    void nextPageVersionByDateUsesDateIndex() {
+        var plan = explain(AppointmentDatabaseRepository.NEXT_PAGE_VERSION_BY_DATE, true);
+
+        assertThat(plan).contains("idx_appointment_date_id").doesNotContain("Seq Scan");
+    }
+
+    /**
+     * Explains the query. Sequential scans are disabled, because the test database is too small for
+     * the planner to prefer an index on its own. If the index cannot serve the query, the plan
+     * still contains a sequential scan and a sort.
+     */
+    @SuppressWarnings("unchecked")
+    private String explain(String sql, boolean withCursor) {
+        entityManager.createNativeQuery("SET LOCAL enable_seqscan = off").executeUpdate();
+        var query = entityManager.createNativeQuery("EXPLAIN " + sql)
+            .setParameter("from", FROM)
+            .setParameter("to", FROM.plusWeeks(1));
+        if (sql.contains(":limit")) {
+            query.setParameter("limit", 100);
+        }
+        if (withCursor) {
+            query.setParameter("date", FROM.plusDays(1));
+            query.setParameter("id", UUID.randomUUID());
+        }
+        return String.join("\n", (List<String>) query.getResultList());
+    }
+}
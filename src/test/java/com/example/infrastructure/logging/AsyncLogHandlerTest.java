@@ -0,0 +1,89 @@
+package com.example.infrastructure.logging;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import com.example.infrastructure.logging.LoggingConfig.Overflow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.jboss.logmanager.ExtLogRecord;
+import org.junit.jupiter.api.Test;
+
+class AsyncLogHandlerTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final List<String> written = new CopyOnWriteArrayList<>();
+
+    @Test
+    void writesQueuedEventsInOrderOnClose() {
+        var handler = handler(16, Overflow.DISCARD_NEWEST);
+        handler.start();
+
+        for (int i = 0; i < 10; i++) {
+            handler.publish(record("com.example.api.Resource", Level.INFO, "event " + i));
+        }
+        handler.close();
+
+        assertThat(written).hasSize(10).startsWith("event 0").endsWith("event 9");
+        assertThat(dropped("overflow")).isZero();
+    }
+
+    @Test
+    void countsDroppedNewestEvents() {
+        var handler = handler(2, Overflow.DISCARD_NEWEST);
+
+        for (int i = 0; i < 5; i++) {
+            handler.publish(record("com.example.api.Resource", Level.INFO, "event " + i));
+        }
+        handler.start();
+        handler.close();
+
+        assertThat(written).containsExactly("event 0", "event 1");
+        assertThat(dropped("overflow")).isEqualTo(3);
+    }
+
+    @Test
+    void keepsNewestEventsAsRingBuffer() {
+        var handler = handler(2, Overflow.DISCARD_OLDEST);
+
+        for (int i = 0; i < 5; i++) {
+            handler.publish(record("com.example.api.Resource", Level.INFO, "event " + i));
+        }
+        handler.start();
+        handler.close();
+
+        assertThat(written).containsExactly("event 3", "event 4");
+        assertThat(dropped("overflow")).isEqualTo(3);
+    }
+
+    private AsyncLogHandler handler(int queueLength, Overflow overflow) {
+        var handler = new AsyncLogHandler(queueLength, overflow, registry);
+        handler.addHandler(new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                written.add(record.getMessage());
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+        return handler;
+    }
+
+    private double dropped(String reason) {
+        return registry.get("logging.events.dropped").tag("reason", reason).counter().count();
+    }
+
+    private static ExtLogRecord record(String loggerName, Level level, String message) {
+        var record = new ExtLogRecord(level, message, AsyncLogHandlerTest.class.getName());
+        record.setLoggerName(loggerName);
+        return record;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.infrastructure.logging;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import com.example.core.exceptions.ErrorCode;
+import com.example.core.exceptions.InfrastructureException;
+import io.quarkiverse.loggingjson.JsonGenerator;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import org.jboss.logmanager.ExtLogRecord;
+import org.junit.jupiter.api.Test;
+
+class ErrorJsonProviderTest {
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    private final ErrorJsonProvider provider =
+        new ErrorJsonProvider(TimeUnit.MINUTES.toNanos(10), nanoTime::get);
+
+    @Test
+    void writesErrorIdAndCodeOfDomainExceptions() throws Exception {
+        var exception = failure();
+        var generator = mock(JsonGenerator.class);
+
+        provider.writeTo(generator, record(new IllegalStateException("Wrapped", exception)));
+
+        verify(generator).writeStringField("errorId", exception.getErrorId());
+        verify(generator).writeStringField("errorCode", "INF_DB_UNKNOWN");
+        verify(generator).writeStringField(eq("stackTraceId"), anyString());
+    }
+
+    @Test
+    void rendersStackTraceOncePerInterval() throws Exception {
+        var first = mock(JsonGenerator.class);
+        var repeated = mock(JsonGenerator.class);
+        var later = mock(JsonGenerator.class);
+
+        provider.writeTo(first, record(failure()));
+        provider.writeTo(repeated, record(failure()));
+        nanoTime.addAndGet(TimeUnit.MINUTES.toNanos(10));
+        provider.writeTo(later, record(failure()));
+
+        verify(first).writeStringField(eq("stackTrace"), startsWith(
+            InfrastructureException.class.getName()));
+        verify(repeated).writeStringField(eq("errorCode"), eq("INF_DB_UNKNOWN"));
+        verify(repeated, never()).writeStringField(eq("stackTrace"), anyString());
+        verify(later).writeStringField(eq("stackTrace"), anyString());
+    }
+
+    @Test
+    void ignoresEventsWithoutError() throws Exception {
+        var generator = mock(JsonGenerator.class);
+
+        provider.writeTo(generator, new ExtLogRecord(Level.INFO, "message", getClass().getName()));
+
+        verifyNoInteractions(generator);
+    }
+
+    private static InfrastructureException failure() {
+        return new InfrastructureException(ErrorCode.INF_DB_UNKNOWN, "Failed.",
+            new IllegalStateException("Connection closed."));
+    }
+
+    private static ExtLogRecord record(Throwable thrown) {
+        var record = new ExtLogRecord(Level.SEVERE, "Request failed.",
+            ErrorJsonProviderTest.class.getName());
+        record.setThrown(thrown);
+        return record;
+    }
+}
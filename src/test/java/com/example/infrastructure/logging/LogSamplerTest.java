@@ -0,0 +1,63 @@
+package com.example.infrastructure.logging;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import com.example.infrastructure.logging.LogSampler.Limits;
+import com.example.infrastructure.logging.LogSampler.Verdict;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.jboss.logmanager.ExtLogRecord;
+import org.junit.jupiter.api.Test;
+
+class LogSamplerTest {
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    @Test
+    void limitsEventsPerLoggerAndSecond() {
+        var sampler = new LogSampler(Map.of("com.example", new Limits(1.0, 2)), nanoTime::get);
+
+        assertThat(sampler.test(record("com.example.api.Resource", Level.INFO)))
+            .isEqualTo(Verdict.LOG);
+        assertThat(sampler.test(record("com.example.api.Resource", Level.INFO)))
+            .isEqualTo(Verdict.LOG);
+        assertThat(sampler.test(record("com.example.api.Resource", Level.FINE)))
+            .isEqualTo(Verdict.RATE_LIMITED);
+        assertThat(sampler.test(record("com.example.api.Other", Level.INFO)))
+            .isEqualTo(Verdict.LOG);
+
+        nanoTime.addAndGet(1_000_000_000L);
+        assertThat(sampler.test(record("com.example.api.Resource", Level.INFO)))
+            .isEqualTo(Verdict.LOG);
+    }
+
+    @Test
+    void appliesMostSpecificCategory() {
+        var sampler = new LogSampler(Map.of(
+            "com.example", new Limits(1.0, 0),
+            "com.example.api", new Limits(0.0, 0)), nanoTime::get);
+
+        assertThat(sampler.test(record("com.example.api.Resource", Level.INFO)))
+            .isEqualTo(Verdict.SAMPLED);
+        assertThat(sampler.test(record("com.example.business.Handler", Level.INFO)))
+            .isEqualTo(Verdict.LOG);
+        assertThat(sampler.test(record("com.example.apiary.Resource", Level.INFO)))
+            .isEqualTo(Verdict.LOG);
+        assertThat(sampler.test(record("org.acme.Resource", Level.INFO))).isEqualTo(Verdict.LOG);
+    }
+
+    @Test
+    void alwaysLogsWarningsAndErrors() {
+        var sampler = new LogSampler(Map.of("com.example", new Limits(0.0, 1)), nanoTime::get);
+
+        assertThat(sampler.test(record("com.example.api.Resource", Level.WARNING)))
+            .isEqualTo(Verdict.LOG);
+        assertThat(sampler.test(record("com.example.api.Resource", Level.SEVERE)))
+            .isEqualTo(Verdict.LOG);
+    }
+
+    private static ExtLogRecord record(String loggerName, Level level) {
+        var record = new ExtLogRecord(level, "message", LogSamplerTest.class.getName());
+        record.setLoggerName(loggerName);
+        return record;
+    }
+}
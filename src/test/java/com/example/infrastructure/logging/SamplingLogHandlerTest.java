@@ -0,0 +1,59 @@
+package com.example.infrastructure.logging;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.jboss.logmanager.ExtLogRecord;
+import org.junit.jupiter.api.Test;
+
+class SamplingLogHandlerTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final List<String> written = new CopyOnWriteArrayList<>();
+
+    @Test
+    void countsSampledEvents() {
+        var handler = handler(Map.of("com.example.api", new LogSampler.Limits(0.0, 0)));
+
+        handler.publish(record("com.example.api.Resource", Level.FINE, "sampled"));
+        handler.publish(record("com.example.api.Resource", Level.SEVERE, "error"));
+        handler.publish(record("com.example.business.Handler", Level.FINE, "other category"));
+
+        assertThat(written).containsExactly("error", "other category");
+        assertThat(dropped("sampling")).isEqualTo(1);
+    }
+
+    private SamplingLogHandler handler(Map<String, LogSampler.Limits> sampling) {
+        var handler = new SamplingLogHandler(new LogSampler(sampling), registry);
+        handler.addHandler(new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                written.add(record.getMessage());
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+        return handler;
+    }
+
+    private double dropped(String reason) {
+        return registry.get("logging.events.dropped").tag("reason", reason).counter().count();
+    }
+
+    private static ExtLogRecord record(String loggerName, Level level, String message) {
+        var record = new ExtLogRecord(level, message, SamplingLogHandlerTest.class.getName());
+        record.setLoggerName(loggerName);
+        return record;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.load;
+
+import java.util.StringJoiner;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.hasSize;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Measures the throughput of {@code POST /appointment/bulk} for 100k appointments. Run with
+ * {@code ./gradlew loadTest}, the result is printed to stdout.
+ */
+@QuarkusTest
+@Tag("load")
+class AppointmentBulkLoadTest {
+    private static final int APPOINTMENTS = 100_000;
+
+    private static final int REQUEST_SIZE = 10_000;
+
+    @ConfigProperty(name = "appointment.bulk.chunk-size")
+    int chunkSize;
+
+    @Test
+    void createAppointments() {
+        var body = requestBody();
+        // Warm up the endpoint and the statement caches
+        post(body);
+
+        var start = System.nanoTime();
+        for (int i = 0; i < APPOINTMENTS / REQUEST_SIZE; i++) {
+            post(body);
+        }
+        var seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        System.out.printf("bulk create: rows=%d chunk-size=%d duration=%.2fs"
+            + " throughput=%.0f rows/s%n", APPOINTMENTS, chunkSize, seconds, APPOINTMENTS / seconds);
+    }
+
+    private static void post(String body) {
+        given()
+            .contentType(ContentType.JSON)
+            .body(body)
+            .when().post("/appointment/bulk")
+            .then()
+            .statusCode(200)
+            .body("", hasSize(REQUEST_SIZE))
+            .body("", everyItem(hasKey("result")));
+    }
+
+    private static String requestBody() {
+        var appointments = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < REQUEST_SIZE; i++) {
+            appointments.add("""
+                {"date": "2024-11-%02dT%02d:00:00Z", "location": "Room %d", "title": "Import %d"}
+                """.formatted(i % 28 + 1, i % 24, i % 50, i));
+        }
+        return appointments.toString();
+    }
+}
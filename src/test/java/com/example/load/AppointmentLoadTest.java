@@ -0,0 +1,168 @@
+package com.example.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Measures throughput and latency of the appointment read endpoints with many concurrent clients.
+ * Each client sends its next request as soon as the previous one completed (closed model). Run with
+ * {@code ./gradlew loadTest}, the results are printed to stdout.
+ *
+ * <p>
+ * This class measures the default, blocking persistence mode on the worker pool.
+ * {@link VirtualThreadAppointmentLoadTest} runs the same scenario with the blocking calls on virtual
+ * threads, {@link ReactiveAppointmentLoadTest} with the reactive persistence mode. The near-cache
+ * is disabled in all runs, so every request reaches the database. The subclasses are
+ * {@code @Typed} to their own class, otherwise Quarkus finds several beans for this test class.
+ * </p>
+ */
+@QuarkusTest
+@Tag("load")
+@TestProfile(AppointmentLoadTest.BlockingPersistence.class)
+public class AppointmentLoadTest {
+    private static final int APPOINTMENTS = 200;
+
+    private static final String APPOINTMENT = """
+        {"date": "2024-10-%02dT09:00:00Z", "location": "Room %d", "title": "Load test"}
+        """;
+
+    @TestHTTPResource("/appointment")
+    URI appointmentUri;
+
+    @ConfigProperty(name = "appointment.persistence.mode", defaultValue = "blocking")
+    String persistenceMode;
+
+    @ConfigProperty(name = "appointment.persistence.offload", defaultValue = "worker")
+    String offload;
+
+    @ConfigProperty(name = "quarkus.http.access-log.enabled", defaultValue = "false")
+    boolean accessLog;
+
+    @ConfigProperty(name = "appointment.logging.async.enabled", defaultValue = "false")
+    boolean asyncLogging;
+
+    /**
+     * Numbers of concurrent clients. The default worker pool has at least 200 threads.
+     */
+    @ConfigProperty(name = "load-test.concurrency", defaultValue = "16,64,256,1024")
+    List<Integer> concurrencies;
+
+    @ConfigProperty(name = "load-test.duration", defaultValue = "PT10S")
+    Duration duration;
+
+    @ConfigProperty(name = "load-test.warmup", defaultValue = "PT5S")
+    Duration warmup;
+
+    @Test
+    void readAppointments() throws Exception {
+        try (var client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build()) {
+            var locations = createAppointments(client);
+
+            run(client, locations, concurrencies.getFirst(), warmup);
+            for (var concurrency : concurrencies) {
+                var latencies = run(client, locations, concurrency, duration);
+
+                Arrays.sort(latencies);
+                var throughput = latencies.length / (double) duration.toSeconds();
+                System.out.printf("persistence=%s offload=%s access-log=%s async-logging=%s"
+                    + " concurrency=%d requests=%d throughput=%.0f/s p50=%.2fms p99=%.2fms"
+                    + " max=%.2fms%n", persistenceMode, offload, accessLog, asyncLogging,
+                    concurrency, latencies.length, throughput, percentile(latencies, 0.50),
+                    percentile(latencies, 0.99), percentile(latencies, 1.0));
+                assertThat(latencies).isNotEmpty();
+            }
+        }
+    }
+
+    private List<URI> createAppointments(HttpClient client) throws Exception {
+        var locations = new ArrayList<URI>(APPOINTMENTS);
+        for (int i = 0; i < APPOINTMENTS; i++) {
+            var response = client.send(HttpRequest.newBuilder(appointmentUri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(APPOINTMENT.formatted(i % 28 + 1, i)))
+                .build(), HttpResponse.BodyHandlers.discarding());
+            assertThat(response.statusCode()).isEqualTo(201);
+            locations.add(appointmentUri.resolve(response.headers().firstValue("Location")
+                .orElseThrow()));
+        }
+        return locations;
+    }
+
+    /**
+     * Sends requests from {@code concurrency} clients for the given duration: every second request
+     * gets a single appointment, the others get a page of the date range endpoint.
+     *
+     * @return the latencies of all completed requests in nanoseconds
+     */
+    private long[] run(HttpClient client, List<URI> locations, int concurrency, Duration duration)
+        throws Exception {
+        var range = URI.create(appointmentUri
+            + "?from=2024-10-01T00:00:00Z&to=2024-11-01T00:00:00Z&limit=20");
+        var end = System.nanoTime() + duration.toNanos();
+        var clients = new ArrayList<Callable<long[]>>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            clients.add(() -> {
+                var random = ThreadLocalRandom.current();
+                var latencies = new long[1024];
+                int count = 0;
+                while (System.nanoTime() < end) {
+                    var uri = random.nextBoolean()
+                        ? locations.get(random.nextInt(locations.size()))
+                        : range;
+                    var start = System.nanoTime();
+                    var response = client.send(HttpRequest.newBuilder(uri).GET().build(),
+                        HttpResponse.BodyHandlers.discarding());
+                    var latency = System.nanoTime() - start;
+                    assertThat(response.statusCode()).isEqualTo(200);
+                    if (count == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, count * 2);
+                    }
+                    latencies[count++] = latency;
+                }
+                return Arrays.copyOf(latencies, count);
+            });
+        }
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var results = new ArrayList<long[]>(concurrency);
+            for (var future : executor.invokeAll(clients)) {
+                results.add(future.get());
+            }
+            return results.stream().flatMapToLong(Arrays::stream).toArray();
+        }
+    }
+
+    private static double percentile(long[] sortedLatencies, double percentile) {
+        var index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    public static class BlockingPersistence implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("appointment.persistence.mode", "blocking",
+                "appointment.cache.maximum-size", "0");
+        }
+    }
+}
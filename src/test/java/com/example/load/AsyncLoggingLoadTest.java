@@ -0,0 +1,30 @@
+package com.example.load;
+
+import java.util.HashMap;
+import java.util.Map;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.enterprise.inject.Typed;
+import org.junit.jupiter.api.Tag;
+
+/**
+ * Runs the scenario of {@link LoggingLoadTest} with the production logging: the events are sampled
+ * and rate limited ({@code appointment.logging.sampling}) and written by a background thread. The
+ * dropped events are counted in {@code logging_events_dropped_total} at {@code /q/metrics}.
+ */
+@QuarkusTest
+@Tag("load")
+@TestProfile(AsyncLoggingLoadTest.AsyncLogging.class)
+@Typed(AsyncLoggingLoadTest.class)
+class AsyncLoggingLoadTest extends AppointmentLoadTest {
+    public static class AsyncLogging extends LoggingLoadTest.SynchronousLogging {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            var overrides = new HashMap<>(super.getConfigOverrides());
+            overrides.put("appointment.logging.async.enabled", "true");
+            overrides.keySet().removeIf(key -> key.startsWith("appointment.logging.sampling."));
+            return overrides;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import com.example.infrastructure.clients.locations.LocationServiceStub;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Shows, that the latency of {@code GET /appointment/{id}/location} stays bounded, when the
+ * location service slows down. The stub of the location service first answers within 5 ms, then
+ * within 2 s. Concurrent clients request the locations of random appointments, while the latency of
+ * {@code GET /appointment/{id}} is measured in parallel. Slow calls time out after 250 ms, and as
+ * soon as the circuit breaker opens, calls are rejected immediately with
+ * {@code 503 Service Unavailable}. Run with {@code ./gradlew loadTest}, the results are printed to
+ * stdout.
+ */
+@QuarkusTest
+@Tag("load")
+@TestProfile(LocationServiceLatencyLoadTest.Uncached.class)
+public class LocationServiceLatencyLoadTest {
+    private static final int APPOINTMENTS = 50;
+
+    private static final int CLIENTS = 16;
+
+    private static final int REQUESTS_PER_CLIENT = 200;
+
+    private static final String APPOINTMENT = """
+        {"date": "2024-10-14T09:00:00Z", "location": "Room %d", "title": "Load test"}
+        """;
+
+    @TestHTTPResource("/appointment")
+    URI appointmentUri;
+
+    @AfterEach
+    void resetLatency() {
+        LocationServiceStub.setLatency(Duration.ZERO);
+    }
+
+    @Test
+    void latencyStaysBoundedWhenLocationServiceSlowsDown() throws Exception {
+        try (var client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build()) {
+            var appointments = new ArrayList<URI>(APPOINTMENTS);
+            for (int i = 0; i < APPOINTMENTS; i++) {
+                var response = client.send(HttpRequest.newBuilder(appointmentUri)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(APPOINTMENT.formatted(i)))
+                    .build(), HttpResponse.BodyHandlers.discarding());
+                assertThat(response.statusCode()).isEqualTo(201);
+                appointments.add(appointmentUri.resolve(response.headers().firstValue("Location")
+                    .orElseThrow()));
+            }
+
+            LocationServiceStub.setLatency(Duration.ofMillis(5));
+            var healthy = run(client, appointments);
+            print("healthy", healthy);
+            assertThat(healthy.statuses()).containsOnlyKeys(200);
+
+            LocationServiceStub.setLatency(Duration.ofSeconds(2));
+            var slow = run(client, appointments);
+            print("slow", slow);
+            assertThat(slow.locations().getValueAtPercentile(99))
+                .isLessThan(TimeUnit.MILLISECONDS.toMicros(1000));
+            assertThat(slow.appointments().getValueAtPercentile(99))
+                .isLessThan(TimeUnit.MILLISECONDS.toMicros(250));
+            assertThat(slow.statuses()).containsOnlyKeys(200, 503);
+        }
+    }
+
+    /**
+     * Runs the clients, each requests locations of random appointments and every fourth time the
+     * appointment itself.
+     */
+    private static Run run(HttpClient client, List<URI> appointments) throws Exception {
+        var run = new Run(new ConcurrentHistogram(TimeUnit.SECONDS.toMicros(10), 3),
+            new ConcurrentHistogram(TimeUnit.SECONDS.toMicros(10), 3), new ConcurrentHashMap<>());
+        var clients = new ArrayList<Future<?>>(CLIENTS);
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < CLIENTS; c++) {
+                clients.add(executor.submit(() -> {
+                    var random = ThreadLocalRandom.current();
+                    for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                        var appointment = appointments.get(random.nextInt(appointments.size()));
+                        if (i % 4 == 0) {
+                            var status = send(client, appointment, run.appointments());
+                            assertThat(status).isEqualTo(200);
+                        }
+                        var status = send(client, URI.create(appointment + "/location"),
+                            run.locations());
+                        run.statuses().computeIfAbsent(status, key -> new AtomicInteger())
+                            .incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+        }
+        // Fails the run with the first failed assertion of a client
+        for (var future : clients) {
+            future.get();
+        }
+        return run;
+    }
+
+    private static int send(HttpClient client, URI uri, Histogram latencies) throws Exception {
+        var start = System.nanoTime();
+        var response = client.send(HttpRequest.newBuilder(uri).GET().build(),
+            HttpResponse.BodyHandlers.discarding());
+        latencies.recordValue((System.nanoTime() - start) / 1000);
+        return response.statusCode();
+    }
+
+    private static void print(String phase, Run run) {
+        System.out.printf("%s: location p50=%.3fms p99=%.3fms max=%.3fms, appointment p50=%.3fms"
+            + " p99=%.3fms, statuses=%s%n", phase,
+            millis(run.locations(), 50), millis(run.locations(), 99),
+            run.locations().getMaxValue() / 1000.0,
+            millis(run.appointments(), 50), millis(run.appointments(), 99), run.statuses());
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    /**
+     * Latencies in microseconds and the number of responses per status of a run.
+     */
+    private record Run(Histogram locations, Histogram appointments,
+        Map<Integer, AtomicInteger> statuses) {
+    }
+
+    /**
+     * Starts the stub of the location service. The location cache is disabled, so every request
+     * reaches the location service.
+     */
+    public static class Uncached implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("appointment.locations.cache.maximum-size", "0");
+        }
+
+        @Override
+        public List<TestResourceEntry> testResources() {
+            return List.of(new TestResourceEntry(LocationServiceStub.class));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.load;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.enterprise.inject.Typed;
+import org.junit.jupiter.api.Tag;
+
+/**
+ * Runs the scenario of {@link AppointmentLoadTest} with an access log entry and debug logs of the
+ * application on every request. The events are formatted as JSON and written synchronously by the
+ * request threads to {@code build/load-test.log}, none of them is sampled.
+ * {@link AsyncLoggingLoadTest} runs the same scenario with the production logging: asynchronous,
+ * sampled and rate limited. Compare the throughput with {@link AppointmentLoadTest}, that hardly
+ * logs.
+ */
+@QuarkusTest
+@Tag("load")
+@TestProfile(LoggingLoadTest.SynchronousLogging.class)
+@Typed(LoggingLoadTest.class)
+class LoggingLoadTest extends AppointmentLoadTest {
+    public static class SynchronousLogging implements QuarkusTestProfile {
+        static final List<String> SAMPLED_CATEGORIES =
+            List.of("com.example.api", "com.example.business", "io.quarkus.http.access-log");
+
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            var overrides = new HashMap<String, String>();
+            overrides.put("appointment.persistence.mode", "blocking");
+            overrides.put("appointment.cache.maximum-size", "0");
+            overrides.put("appointment.logging.async.enabled", "false");
+            overrides.put("quarkus.http.access-log.enabled", "true");
+            overrides.put("quarkus.log.category.\"com.example\".level", "DEBUG");
+            overrides.put("quarkus.log.console.enable", "false");
+            overrides.put("quarkus.log.file.enable", "true");
+            overrides.put("quarkus.log.file.path", "build/load-test.log");
+            overrides.put("quarkus.log.json.file.enable", "true");
+            // The categories, that the production logging samples, are written completely
+            for (var category : SAMPLED_CATEGORIES) {
+                overrides.put("appointment.logging.sampling.\"" + category + "\".rate", "1.0");
+                overrides.put(
+                    "appointment.logging.sampling.\"" + category + "\".limit-per-second", "0");
+            }
+            return overrides;
+        }
+    }
+}
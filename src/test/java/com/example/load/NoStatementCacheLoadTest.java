@@ -0,0 +1,27 @@
+package com.example.load;
+
+import java.util.Map;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.enterprise.inject.Typed;
+import org.junit.jupiter.api.Tag;
+
+/**
+ * Runs the scenario of {@link StatementCacheLoadTest} without server side prepared statements: the
+ * driver sends every statement unnamed, so the database parses and plans it on every execution.
+ */
+@QuarkusTest
+@Tag("load")
+@TestProfile(NoStatementCacheLoadTest.NoStatementCache.class)
+@Typed(NoStatementCacheLoadTest.class)
+class NoStatementCacheLoadTest extends StatementCacheLoadTest {
+    public static class NoStatementCache implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                "quarkus.datasource.jdbc.additional-jdbc-properties.prepareThreshold", "0",
+                "appointment.cache.maximum-size", "0");
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.load;
+
+import java.util.Map;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.enterprise.inject.Typed;
+import org.junit.jupiter.api.Tag;
+
+/**
+ * Runs the scenario of {@link AppointmentLoadTest} with the reactive persistence mode.
+ */
+@QuarkusTest
+@Tag("load")
+@TestProfile(ReactiveAppointmentLoadTest.ReactivePersistence.class)
+@Typed(ReactiveAppointmentLoadTest.class)
+class ReactiveAppointmentLoadTest extends AppointmentLoadTest {
+    public static class ReactivePersistence implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("appointment.persistence.mode", "reactive",
+                "quarkus.datasource.reactive", "true",
+                "appointment.cache.maximum-size", "0");
+        }
+    }
+}
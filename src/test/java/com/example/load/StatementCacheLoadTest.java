@@ -0,0 +1,113 @@
+package com.example.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.HdrHistogram.Histogram;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Measures the latency of {@code GET /appointment/{id}} with server side prepared statements, that
+ * are cached per connection by the driver, as configured for production. A single client sends the
+ * requests one after another, so the latency is not affected by the pool or the worker threads.
+ * {@link NoStatementCacheLoadTest} runs the same scenario with every statement parsed and planned
+ * by the database again. Run with {@code ./gradlew loadTest}, the results are printed to stdout.
+ */
+@QuarkusTest
+@Tag("load")
+@TestProfile(StatementCacheLoadTest.StatementCache.class)
+public class StatementCacheLoadTest {
+    private static final int APPOINTMENTS = 200;
+
+    private static final int WARMUP_REQUESTS = 5_000;
+
+    private static final String APPOINTMENT = """
+        {"date": "2024-10-%02dT09:00:00Z", "location": "Room %d", "title": "Load test"}
+        """;
+
+    @TestHTTPResource("/appointment")
+    URI appointmentUri;
+
+    // The default of the driver, the test profiles set the property. Quarkus validates the
+    // injection point, even if the test is not run.
+    @ConfigProperty(name = "quarkus.datasource.jdbc.additional-jdbc-properties.prepareThreshold",
+        defaultValue = "5")
+    int prepareThreshold;
+
+    @ConfigProperty(name = "load-test.requests", defaultValue = "50000")
+    int requests;
+
+    @Test
+    void getAppointmentById() throws Exception {
+        try (var client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build()) {
+            var locations = new ArrayList<URI>(APPOINTMENTS);
+            for (int i = 0; i < APPOINTMENTS; i++) {
+                var response = client.send(HttpRequest.newBuilder(appointmentUri)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(APPOINTMENT.formatted(i % 28 + 1, i)))
+                    .build(), HttpResponse.BodyHandlers.discarding());
+                assertThat(response.statusCode()).isEqualTo(201);
+                locations.add(appointmentUri.resolve(response.headers().firstValue("Location")
+                    .orElseThrow()));
+            }
+
+            run(client, locations, WARMUP_REQUESTS);
+            var latencies = run(client, locations, requests);
+
+            System.out.printf("prepareThreshold=%d requests=%d p50=%.3fms p90=%.3fms p99=%.3fms"
+                + " p99.9=%.3fms max=%.3fms%n", prepareThreshold, latencies.getTotalCount(),
+                millis(latencies, 50), millis(latencies, 90), millis(latencies, 99),
+                millis(latencies, 99.9), latencies.getMaxValue() / 1000.0);
+            assertThat(latencies.getTotalCount()).isEqualTo(requests);
+        }
+    }
+
+    /**
+     * @return the latencies in microseconds
+     */
+    private static Histogram run(HttpClient client, List<URI> locations, int requests)
+        throws Exception {
+        var latencies = new Histogram(TimeUnit.SECONDS.toMicros(10), 3);
+        var random = ThreadLocalRandom.current();
+        for (int i = 0; i < requests; i++) {
+            var request = HttpRequest.newBuilder(locations.get(random.nextInt(locations.size())))
+                .GET().build();
+            var start = System.nanoTime();
+            var response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            latencies.recordValue((System.nanoTime() - start) / 1000);
+            assertThat(response.statusCode()).isEqualTo(200);
+        }
+        return latencies;
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    /**
+     * Statement cache of the production profile. The near-cache is disabled, so every request
+     * reaches the database.
+     */
+    public static class StatementCache implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                "quarkus.datasource.jdbc.additional-jdbc-properties.prepareThreshold", "1",
+                "quarkus.datasource.jdbc.additional-jdbc-properties.preparedStatementCacheQueries", "256",
+                "appointment.cache.maximum-size", "0");
+        }
+    }
+}
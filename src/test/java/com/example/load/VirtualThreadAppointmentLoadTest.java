@@ -0,0 +1,27 @@
+package com.example.load;
+
+import java.util.Map;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.enterprise.inject.Typed;
+import org.junit.jupiter.api.Tag;
+
+/**
+ * Runs the scenario of {@link AppointmentLoadTest} with the blocking database calls on virtual
+ * threads instead of the worker pool.
+ */
+@QuarkusTest
+@Tag("load")
+@TestProfile(VirtualThreadAppointmentLoadTest.VirtualThreadOffload.class)
+@Typed(VirtualThreadAppointmentLoadTest.class)
+class VirtualThreadAppointmentLoadTest extends AppointmentLoadTest {
+    public static class VirtualThreadOffload implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("appointment.persistence.mode", "blocking",
+                "appointment.persistence.offload", "virtual-threads",
+                "appointment.cache.maximum-size", "0");
+        }
+    }
+}